@@ -0,0 +1,137 @@
+package jack.mwukzibackened.common.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 노드에서 참여자 목록 이벤트 하나를 구독자 전원에게 보내는 데 걸리는 시간.
+ * <ul>
+ *     <li>fanout: {@link SseFanout}으로 한 번 직렬화 후 전송 스레드 풀에서 전달 (전원 수신까지 대기)</li>
+ *     <li>inline: 예전 방식처럼 호출 스레드에서 구독자마다 직렬화하고 순서대로 전송</li>
+ * </ul>
+ * 에미터는 네트워크 대신 받은 바이트 수만 세므로 엔진 자체의 비용만 측정됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SseFanoutBenchmark {
+
+    @Param({"10000"})
+    private int subscribers;
+
+    @Param({"4"})
+    private int threads;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    private final AtomicInteger remaining = new AtomicInteger();
+    private SseFanout fanout;
+    private List<SseSubscriber> targets;
+    private List<CountingEmitter> emitters;
+    private List<Map<String, Object>> participants;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fanout = new SseFanout(
+                new SimpleMeterRegistry(),
+                threads,
+                16,
+                SseFanout.OverflowPolicy.DROP_OLDEST,
+                Duration.ZERO,
+                Duration.ZERO,
+                Duration.ofMinutes(1)
+        );
+        targets = new ArrayList<>(subscribers);
+        emitters = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            CountingEmitter emitter = new CountingEmitter(remaining);
+            emitters.add(emitter);
+            targets.add(fanout.subscribe(emitter));
+        }
+        participants = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            participants.add(Map.of(
+                    "participantId", UUID.randomUUID(),
+                    "displayName", "참여자" + i,
+                    "role", i == 0 ? "HOST" : "GUEST",
+                    "hasSubmitted", i % 2 == 0
+            ));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fanout.close();
+    }
+
+    @Benchmark
+    public int fanout() {
+        remaining.set(subscribers);
+        fanout.publish(targets, fanout.frame("participants", participants));
+        while (remaining.get() > 0) {
+            Thread.onSpinWait();
+        }
+        return subscribers;
+    }
+
+    @Benchmark
+    public int inline() throws Exception {
+        remaining.set(subscribers);
+        for (CountingEmitter emitter : emitters) {
+            byte[] json = objectMapper.writeValueAsBytes(participants);
+            emitter.send(SseEmitter.event().name("participants").data(json));
+        }
+        return subscribers;
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+
+        private final AtomicInteger remaining;
+        private long bytes;
+
+        private CountingEmitter(AtomicInteger remaining) {
+            super(0L);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                if (item.getData() instanceof byte[] data) {
+                    bytes += data.length;
+                } else {
+                    bytes += String.valueOf(item.getData()).length();
+                }
+            }
+            remaining.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package jack.mwukzibackened.domain.place;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 키워드 검색 응답 디코딩: 기존 String + JsonNode 트리 경로 vs 스트리밍 디코더.
+ * 연산당 할당량은 -prof gc 결과의 gc.alloc.rate.norm 으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KakaoSearchResponseDecoderBenchmark {
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+
+    @Param({"5", "15"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KakaoSearchResponseDecoder decoder = new KakaoSearchResponseDecoder();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"documents\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"address_name\":\"서울 강남구 역삼동 ").append(800 + i).append("-1\",")
+                    .append("\"category_group_code\":\"FD6\",\"category_group_name\":\"음식점\",")
+                    .append("\"category_name\":\"음식점 > 한식 > 찌개,전골\",")
+                    .append("\"distance\":\"").append(120 + i * 37).append("\",")
+                    .append("\"id\":\"").append(10_000_000 + i).append("\",")
+                    .append("\"phone\":\"02-555-").append(1000 + i).append("\",")
+                    .append("\"place_name\":\"강남 김치찌개 ").append(i).append("호점\",")
+                    .append("\"place_url\":\"http://place.map.kakao.com/").append(10_000_000 + i).append("\",")
+                    .append("\"road_address_name\":\"서울 강남구 테헤란로 ").append(100 + i).append("\",")
+                    .append("\"x\":\"").append(CENTER_LNG + i * 0.0003).append("\",")
+                    .append("\"y\":\"").append(CENTER_LAT + i * 0.0002).append("\"}");
+        }
+        json.append("],\"meta\":{\"is_end\":false,\"pageable_count\":45,\"same_name\":{\"keyword\":\"김치찌개\",")
+                .append("\"region\":[],\"selected_region\":\"\"},\"total_count\":1234}}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<PlaceSearchResponse.PlaceItem> treeDecode() throws IOException {
+        String raw = new String(payload, StandardCharsets.UTF_8);
+        JsonNode root = objectMapper.readTree(raw);
+        JsonNode documents = root.path("documents");
+        List<PlaceSearchResponse.PlaceItem> items = new ArrayList<>();
+        for (JsonNode doc : documents) {
+            Double lat = Double.parseDouble(doc.path("y").asText(null));
+            Double lng = Double.parseDouble(doc.path("x").asText(null));
+            Integer distanceMeters = Integer.parseInt(doc.path("distance").asText(null));
+            items.add(PlaceSearchResponse.PlaceItem.builder()
+                    .provider("kakao")
+                    .providerPlaceId(doc.path("id").asText(""))
+                    .name(doc.path("place_name").asText(""))
+                    .category(doc.path("category_name").asText(""))
+                    .address(doc.path("address_name").asText(""))
+                    .roadAddress(doc.path("road_address_name").asText(""))
+                    .phone(doc.path("phone").asText(""))
+                    .distanceMeters(distanceMeters)
+                    .latitude(lat)
+                    .longitude(lng)
+                    .placeUrl(doc.path("place_url").asText(""))
+                    .sourceKeyword("김치찌개")
+                    .build());
+        }
+        return items;
+    }
+
+    @Benchmark
+    public List<PlaceSearchResponse.PlaceItem> streamingDecode() throws IOException {
+        return decoder.decodePlaces(new ByteArrayInputStream(payload), "김치찌개", CENTER_LAT, CENTER_LNG, size);
+    }
+}
@@ -0,0 +1,83 @@
+package jack.mwukzibackened.domain.place;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 카탈로그 반경 질의 지연시간.
+ * 수도권(약 60km x 60km)에 장소를 무작위로 깔고, 무작위 중심에서 반경 1km 키워드 질의를 반복합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PlaceCatalogIndexBenchmark {
+
+    private static final double MIN_LAT = 37.25;
+    private static final double MIN_LNG = 126.75;
+    private static final double SPAN_DEGREES = 0.55;
+    private static final String[] KEYWORDS = {"김치찌개", "파스타", "초밥", "국밥", "햄버거", "마라탕", "냉면", "돈까스"};
+    private static final String[] CATEGORIES = {"음식점 > 한식", "음식점 > 양식", "음식점 > 일식", "음식점 > 중식"};
+
+    @Param({"100000", "1000000"})
+    private int places;
+
+    @Param({"1000"})
+    private int radiusMeters;
+
+    private PlaceCatalogIndex index;
+    private LocalDateTime seenAfter;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom seed = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        index = new PlaceCatalogIndex();
+        for (int i = 0; i < places; i++) {
+            String keyword = KEYWORDS[seed.nextInt(KEYWORDS.length)];
+            index.load(PlaceCatalogIndex.Entry.create(
+                    String.valueOf(i),
+                    "KAKAO",
+                    "식당 " + i,
+                    CATEGORIES[seed.nextInt(CATEGORIES.length)],
+                    "서울 어딘가 " + i,
+                    "서울 어딘가로 " + i,
+                    "",
+                    MIN_LAT + seed.nextDouble() * SPAN_DEGREES,
+                    MIN_LNG + seed.nextDouble() * SPAN_DEGREES,
+                    "http://place.map.kakao.com/" + i,
+                    Set.of(keyword),
+                    now
+            ));
+        }
+        seenAfter = now.minusDays(1);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public List<PlaceCatalogIndex.Hit> radiusQuery() {
+        double lat = MIN_LAT + random.nextDouble() * SPAN_DEGREES;
+        double lng = MIN_LNG + random.nextDouble() * SPAN_DEGREES;
+        String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+        return index.query(keyword, lat, lng, radiusMeters, 15, seenAfter);
+    }
+}
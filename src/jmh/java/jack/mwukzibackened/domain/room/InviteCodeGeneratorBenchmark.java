@@ -0,0 +1,81 @@
+package jack.mwukzibackened.domain.room;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 방 생성 시 초대 코드 발급 처리량. 코드 공간이 occupancy 비율만큼 차 있을 때,
+ * 기존 방식(무작위 코드 + existsByInviteCode 확인 반복)과 순열 방식({@link InviteCodeGenerator})을 비교합니다.
+ *
+ * <p>DB 왕복은 roundTripMicros만큼 스레드를 멈춰 흉내 냅니다. 무작위 방식은 코드 하나에 평균 1 / (1 - occupancy)번,
+ * 순열 방식은 {@value InviteCodeGenerator#BLOCK_SIZE}개에 한 번(블록 임대) 왕복합니다.
+ * 무작위 코드가 이미 쓰였는지는 occupancy 확률로 정합니다 (균등 무작위 코드에서는 실제 점유 집합과 같은 분포입니다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class InviteCodeGeneratorBenchmark {
+
+    @Param({"0.0", "0.5", "0.9", "0.99"})
+    private double occupancy;
+
+    @Param({"300"})
+    private long roundTripMicros;
+
+    private InviteCodeGenerator generator;
+    private InviteCodePermutation permutation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        permutation = new InviteCodePermutation("benchmark-key");
+        AtomicLong sequence = new AtomicLong();
+        generator = new InviteCodeGenerator(permutation, () -> {
+            roundTrip();
+            return sequence.getAndIncrement();
+        });
+    }
+
+    @Benchmark
+    public String randomWithProbe() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String code;
+        boolean taken;
+        do {
+            code = permutation.encode(random.nextLong(InviteCodePermutation.DOMAIN));
+            roundTrip();
+            taken = random.nextDouble() < occupancy;
+        } while (taken);
+        return code;
+    }
+
+    @Benchmark
+    public String permutation() {
+        return generator.next();
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+}
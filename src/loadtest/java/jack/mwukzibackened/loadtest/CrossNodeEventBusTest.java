@@ -0,0 +1,314 @@
+package jack.mwukzibackened.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jack.mwukzibackened.MwukziBackenedApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션을 별도 JVM 두 개(노드 A, B)로 띄우고, A에서 참여자를 추가할 때마다
+ * A와 B에 열어 둔 참여자 SSE 스트림(events=delta)에 participant_joined가 도착하기까지의 시간을 잽니다.
+ * B에 도착하지 않은 이벤트가 하나라도 있으면 종료 코드 1로 끝납니다.
+ *
+ * <p>실행: {@code ./gradlew crossNodeTest -Ploadtest.args="events=200 bus=postgres"}
+ * <br>DB는 SPRING_DATASOURCE_URL/USERNAME/PASSWORD 환경변수로 지정하며 두 노드가 같은 DB를 씁니다.
+ * {@code bus=local}로 실행하면 B에 이벤트가 닿지 않아 실패하는 것(인스턴스를 하나로 고정해야 했던 이유)을 확인할 수 있습니다.
+ */
+public class CrossNodeEventBusTest {
+
+    private static final String READY = "CROSS_NODE_READY";
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("node")) {
+            runNode(args[1], Integer.parseInt(args[2]), args[3]);
+            return;
+        }
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int events = Integer.parseInt(options.getOrDefault("events", "200"));
+        String bus = options.getOrDefault("bus", "postgres");
+        long timeoutMillis = Long.parseLong(options.getOrDefault("timeout-ms", "5000"));
+        boolean verbose = Boolean.parseBoolean(options.getOrDefault("verbose", "false"));
+
+        boolean passed;
+        try (StubUpstreamServer stub = new StubUpstreamServer(
+                0,
+                StubUpstreamServer.Profile.kakao(options),
+                StubUpstreamServer.Profile.openAi(options)
+        )) {
+            stub.start();
+            try (Node a = Node.start("A", stub.baseUrl(), bus, verbose);
+                 Node b = Node.start("B", stub.baseUrl(), bus, verbose)) {
+                a.awaitReady();
+                b.awaitReady();
+                System.out.printf("bus=%s nodeA=%s nodeB=%s events=%d%n", bus, a.baseUrl(), b.baseUrl(), events);
+                passed = new CrossNodeEventBusTest().run(a, b, events, timeoutMillis);
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 자식 JVM에서 실행됩니다. 애플리케이션이 뜨면 부모가 기다리는 줄을 출력합니다.
+     */
+    private static void runNode(String stubBaseUrl, int port, String bus) {
+        // properties(...)로 넘기면 application.yml보다 우선순위가 낮아 덮어쓰지 못하므로 명령행 인자로 넘깁니다.
+        new SpringApplicationBuilder(MwukziBackenedApplication.class)
+                .run(
+                        "--server.port=" + port,
+                        "--room.event-bus.type=" + bus,
+                        "--kakao.rest-api-key=loadtest",
+                        "--kakao.user-info-url=" + stubBaseUrl + "/v2/user/me",
+                        "--kakao.local-search-url=" + stubBaseUrl + "/v2/local/search/keyword.json",
+                        "--kakao.image-search-url=" + stubBaseUrl + "/v2/search/image",
+                        "--openai.api-key=loadtest",
+                        "--openai.base-url=" + stubBaseUrl,
+                        "--place.catalog.enabled=false"
+                );
+        System.out.println(READY);
+        System.out.flush();
+    }
+
+    boolean run(Node a, Node b, int events, long timeoutMillis) throws Exception {
+        String hostToken = post(a, "/api/v1/auth/kakao", null,
+                Map.of("kakao_access_token", "crossnode-" + System.nanoTime()))
+                .path("access_token").asText();
+        JsonNode room = post(a, "/api/v1/rooms", hostToken,
+                Map.of("center_lat", 37.4979, "center_lng", 127.0276, "radius_meters", 1000));
+        String roomId = room.path("room_id").asText();
+        String inviteCode = room.path("invite_code").asText();
+        post(a, "/api/v1/rooms/" + roomId + "/participants/host", hostToken, Map.of());
+
+        ParticipantStream sameNode = new ParticipantStream(a, inviteCode);
+        ParticipantStream crossNode = new ParticipantStream(b, inviteCode);
+        sameNode.awaitSnapshot();
+        crossNode.awaitSnapshot();
+
+        int missed = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            String name = "노드간" + i;
+            CompletableFuture<Long> onA = sameNode.expect(name);
+            CompletableFuture<Long> onB = crossNode.expect(name);
+            long sentAt = System.nanoTime();
+            post(a, "/api/v1/rooms/join", null, Map.of("invite_code", inviteCode, "display_name", name));
+            recorder.record("join.request(A)", System.nanoTime() - sentAt, true);
+            record("delivered.same-node(A)", onA, sentAt, timeoutMillis);
+            if (!record("delivered.cross-node(B)", onB, sentAt, timeoutMillis)) {
+                missed++;
+            }
+        }
+        double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        sameNode.close();
+        crossNode.close();
+        System.out.printf("%n%d joins on A, %d delivered to B, %d missed%n%n", events, events - missed, missed);
+        System.out.print(recorder.report(elapsed));
+        return missed == 0;
+    }
+
+    private boolean record(String step, CompletableFuture<Long> arrival, long sentAt, long timeoutMillis)
+            throws InterruptedException {
+        try {
+            long arrivedAt = arrival.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            recorder.record(step, arrivedAt - sentAt, true);
+            return true;
+        } catch (TimeoutException | ExecutionException ex) {
+            recorder.record(step, TimeUnit.MILLISECONDS.toNanos(timeoutMillis), false);
+            return false;
+        }
+    }
+
+    private JsonNode post(Node node, String path, String bearer, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(node.baseUrl() + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(node.name() + " " + path + " -> " + response.statusCode()
+                    + " " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+
+    /**
+     * 한 노드에 연 delta SSE 스트림. 기다리는 참여자 이름이 participant_joined(또는 전체 목록)로 도착하면 도착 시각을 채웁니다.
+     */
+    private final class ParticipantStream {
+
+        private final Map<String, CompletableFuture<Long>> pending = new ConcurrentHashMap<>();
+        private final CountDownLatch snapshot = new CountDownLatch(1);
+        private final CompletableFuture<HttpResponse<Stream<String>>> response;
+        private final String nodeName;
+        private String event;
+
+        ParticipantStream(Node node, String inviteCode) {
+            this.nodeName = node.name();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(node.baseUrl()
+                            + "/api/v1/rooms/participants/stream?events=delta&inviteCode=" + inviteCode))
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+            this.response = http.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+            this.response.thenAcceptAsync(lines -> lines.body().forEach(this::onLine));
+        }
+
+        CompletableFuture<Long> expect(String name) {
+            return pending.computeIfAbsent(name, ignored -> new CompletableFuture<>());
+        }
+
+        void awaitSnapshot() throws InterruptedException {
+            if (!snapshot.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(nodeName + " SSE 스트림에서 첫 참여자 목록을 받지 못했습니다");
+            }
+        }
+
+        void close() {
+            response.thenAccept(lines -> lines.body().close());
+        }
+
+        private void onLine(String line) {
+            if (line.startsWith("event:")) {
+                event = line.substring("event:".length()).trim();
+                return;
+            }
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            long arrivedAt = System.nanoTime();
+            try {
+                JsonNode data = objectMapper.readTree(line.substring("data:".length()));
+                if ("participant_joined".equals(event)) {
+                    arrived(data.path("participant").path("display_name").asText(), arrivedAt);
+                } else if ("participants_snapshot".equals(event)) {
+                    snapshot.countDown();
+                    data.path("participants").forEach(participant ->
+                            arrived(participant.path("display_name").asText(), arrivedAt));
+                }
+            } catch (IOException ex) {
+                System.err.printf("[%s] SSE data 파싱 실패: %s%n", nodeName, ex.getMessage());
+            }
+        }
+
+        private void arrived(String name, long arrivedAt) {
+            CompletableFuture<Long> future = pending.remove(name);
+            if (future != null) {
+                future.complete(arrivedAt);
+            }
+        }
+    }
+
+    /**
+     * 자식 JVM으로 띄운 애플리케이션 노드. 닫으면 프로세스를 종료합니다.
+     */
+    private static final class Node implements AutoCloseable {
+
+        private final String name;
+        private final int port;
+        private final Process process;
+        private final CountDownLatch ready = new CountDownLatch(1);
+
+        private Node(String name, int port, Process process, boolean verbose) {
+            this.name = name;
+            this.port = port;
+            this.process = process;
+            Thread reader = new Thread(() -> pipeOutput(verbose), "node-" + name + "-output");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        static Node start(String name, String stubBaseUrl, String bus, boolean verbose) throws IOException {
+            int port = freePort();
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            Process process = new ProcessBuilder(
+                    java,
+                    "-cp", System.getProperty("java.class.path"),
+                    CrossNodeEventBusTest.class.getName(),
+                    "node", stubBaseUrl, String.valueOf(port), bus
+            ).redirectErrorStream(true).start();
+            return new Node(name, port, process, verbose);
+        }
+
+        String name() {
+            return name;
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + port;
+        }
+
+        void awaitReady() throws InterruptedException {
+            while (!ready.await(1, TimeUnit.SECONDS)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("노드 " + name + " 시작 실패 (verbose=true로 로그 확인)");
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            process.destroy();
+            try {
+                if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+
+        private void pipeOutput(boolean verbose) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.equals(READY)) {
+                        ready.countDown();
+                    } else if (verbose) {
+                        System.out.printf("[%s] %s%n", name, line);
+                    }
+                }
+            } catch (IOException ignored) {
+                // 프로세스가 끝나면 스트림이 닫힙니다.
+            }
+        }
+
+        private static int freePort() throws IOException {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            }
+        }
+    }
+}
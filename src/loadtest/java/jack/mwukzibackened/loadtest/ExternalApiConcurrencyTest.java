@@ -0,0 +1,223 @@
+package jack.mwukzibackened.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jack.mwukzibackened.MwukziBackenedApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * external-api.non-blocking을 true와 false로 바꿔 가며 애플리케이션을 띄우고, 같은 동시 부하로 식당 검색과 메뉴 추천을 보내
+ * 애플리케이션이 동시에 붙잡고 있는 upstream 호출 수(대역 서버 기준 in-flight)와 응답 지연을 비교합니다.
+ *
+ * <p>블로킹 방식은 요청 스레드가 upstream 응답을 기다리므로 in-flight가 Tomcat 스레드 수(tomcat-threads)에서 멈추고,
+ * 나머지 요청은 스레드를 기다리며 지연이 늘어납니다. 논블로킹 방식은 클라이언트 동시성(concurrency)만큼 올라가야 합니다.
+ * 비교가 스레드 모델만 보도록 upstream 보호 장치(rate limit, bulkhead)와 커넥션 풀 상한은 넉넉하게 풀어 둡니다.
+ * {@code app.<프로퍼티>=값}으로 애플리케이션 설정을 더 바꿀 수 있습니다.
+ *
+ * <p>실행: {@code ./gradlew externalApiConcurrencyTest -Ploadtest.args="requests=2000 concurrency=200 tomcat-threads=50"}
+ * <br>DB는 SPRING_DATASOURCE_URL/USERNAME/PASSWORD 환경변수로 지정합니다 (방 생성과 방장 확인에 필요).
+ */
+public class ExternalApiConcurrencyTest {
+
+    private static final String[] OPERATIONS = {"search", "recommend"};
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(8))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger keywordSequence = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int requests = Integer.parseInt(options.getOrDefault("requests", "2000"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int tomcatThreads = Integer.parseInt(options.getOrDefault("tomcat-threads", "50"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", String.valueOf(Math.min(200, requests))));
+
+        List<String> summary = new ArrayList<>();
+        try (StubUpstreamServer stub = new StubUpstreamServer(
+                0,
+                StubUpstreamServer.Profile.kakao(options),
+                StubUpstreamServer.Profile.openAi(options)
+        )) {
+            stub.start();
+            System.out.printf("stub=%s requests=%d concurrency=%d tomcat-threads=%d%n",
+                    stub.baseUrl(), requests, concurrency, tomcatThreads);
+            for (boolean nonBlocking : new boolean[]{true, false}) {
+                try (ConfigurableApplicationContext context =
+                             startApplication(stub.baseUrl(), nonBlocking, tomcatThreads, options)) {
+                    String target = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                    ExternalApiConcurrencyTest test = new ExternalApiConcurrencyTest();
+                    Room room = test.createRoom(target);
+                    String mode = nonBlocking ? "non-blocking" : "blocking";
+                    for (String operation : OPERATIONS) {
+                        test.runPhase(stub, target, room, operation, warmup, concurrency, new LatencyRecorder());
+                        LatencyRecorder recorder = new LatencyRecorder();
+                        Phase phase = test.runPhase(stub, target, room, operation, requests, concurrency, recorder);
+                        System.out.printf("%n[%s] %s: %.1fs, upstream in-flight peak=%d mean=%.1f%n",
+                                mode, operation, phase.elapsedSeconds(), phase.peakInFlight(), phase.meanInFlight());
+                        System.out.print(recorder.report(phase.elapsedSeconds()));
+                        summary.add(String.format("%-13s %-10s %9.1f %10d %10.1f",
+                                mode, operation, requests / phase.elapsedSeconds(),
+                                phase.peakInFlight(), phase.meanInFlight()));
+                    }
+                }
+            }
+        }
+        System.out.printf("%n%-13s %-10s %9s %10s %10s%n", "mode", "operation", "req/s", "in-flight", "mean");
+        summary.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext startApplication(
+            String stubBaseUrl,
+            boolean nonBlocking,
+            int tomcatThreads,
+            Map<String, String> options
+    ) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("server.tomcat.threads.max", String.valueOf(tomcatThreads));
+        properties.put("external-api.non-blocking", String.valueOf(nonBlocking));
+        properties.put("kakao.rest-api-key", "loadtest");
+        properties.put("kakao.user-info-url", stubBaseUrl + "/v2/user/me");
+        properties.put("kakao.local-search-url", stubBaseUrl + "/v2/local/search/keyword.json");
+        properties.put("kakao.image-search-url", stubBaseUrl + "/v2/search/image");
+        properties.put("openai.api-key", "loadtest");
+        properties.put("openai.base-url", stubBaseUrl);
+        properties.put("room.invite-code.key", "loadtest");
+        properties.put("place.catalog.enabled", "false");
+        for (String upstream : new String[]{"kakao-dapi", "kakao-kapi", "openai"}) {
+            String prefix = "http-client.upstreams." + upstream + ".";
+            properties.put(prefix + "max-connections", "5000");
+            properties.put(prefix + "pending-acquire-max-count", "20000");
+            properties.put(prefix + "guard.rate-limit-per-second", "0");
+            properties.put(prefix + "guard.max-concurrent-calls", "100000");
+        }
+        options.forEach((key, value) -> {
+            if (key.startsWith("app.")) {
+                properties.put(key.substring("app.".length()), value);
+            }
+        });
+        // properties(...)로 넘기면 application.yml보다 우선순위가 낮아 덮어쓰지 못하므로 명령행 인자로 넘깁니다.
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(MwukziBackenedApplication.class).run(args);
+    }
+
+    private Room createRoom(String target) throws IOException, InterruptedException {
+        String hostToken = post(target, "/api/v1/auth/kakao", null,
+                Map.of("kakao_access_token", "concurrency-" + System.nanoTime()))
+                .path("access_token").asText();
+        JsonNode room = post(target, "/api/v1/rooms", hostToken,
+                Map.of("center_lat", 37.4979, "center_lng", 127.0276, "radius_meters", 1000));
+        String roomId = room.path("room_id").asText();
+        post(target, "/api/v1/rooms/" + roomId + "/participants/host", hostToken, Map.of());
+        return new Room(roomId, hostToken);
+    }
+
+    /**
+     * 동시에 concurrency개까지 요청을 보내며 requests개를 끝낼 때까지 대역 서버의 in-flight를 10ms마다 표본으로 모읍니다.
+     */
+    private Phase runPhase(
+            StubUpstreamServer stub,
+            String target,
+            Room room,
+            String operation,
+            int requests,
+            int concurrency,
+            LatencyRecorder recorder
+    ) throws IOException, InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicLong sampleSum = new AtomicLong();
+        AtomicLong sampleCount = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        stub.takePeakInFlight();
+        sampler.scheduleAtFixedRate(() -> {
+            sampleSum.addAndGet(stub.inFlight());
+            sampleCount.incrementAndGet();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = request(target, room, operation);
+            permits.acquire();
+            long sentAt = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        boolean success = ex == null && response.statusCode() / 100 == 2;
+                        recorder.record(operation, System.nanoTime() - sentAt, success);
+                        permits.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+        sampler.shutdownNow();
+        double mean = sampleCount.get() == 0 ? 0 : (double) sampleSum.get() / sampleCount.get();
+        return new Phase(elapsed, stub.takePeakInFlight(), mean);
+    }
+
+    private HttpRequest request(String target, Room room, String operation) throws IOException {
+        if (operation.equals("search")) {
+            // 키워드를 매번 바꿔 검색 캐시, 카탈로그, 같은 요청 합치기를 거치지 않고 카카오를 한 번씩 부르게 합니다.
+            return jsonPost(target + "/api/v1/rooms/" + room.id() + "/places/search", null,
+                    Map.of("keywords", List.of("부하" + keywordSequence.incrementAndGet()), "size_per_keyword", 15));
+        }
+        return jsonPost(target + "/api/v1/rooms/" + room.id() + "/ai/recommend-menu", room.hostToken(),
+                Map.of("participants", List.of(
+                        Map.of("name", "게스트0", "preference", "한식, 국물"),
+                        Map.of("name", "게스트1", "preference", "매운맛, 면")), "count", 3));
+    }
+
+    private HttpRequest jsonPost(String url, String bearer, Object body) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return request.build();
+    }
+
+    private JsonNode post(String target, String path, String bearer, Object body)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(jsonPost(target + path, bearer, body),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(path + " -> " + response.statusCode()
+                    + " " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+
+    private record Room(String id, String hostToken) {
+    }
+
+    private record Phase(double elapsedSeconds, int peakInFlight, double meanInFlight) {
+    }
+}
@@ -0,0 +1,61 @@
+package jack.mwukzibackened.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 단계별 응답 시간을 모아 처리량과 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    synchronized void record(String step, long nanos, boolean success) {
+        steps.computeIfAbsent(step, ignored -> new Step()).add(nanos, success);
+    }
+
+    synchronized String report(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        steps.forEach((name, step) -> {
+            long[] sorted = Arrays.copyOf(step.nanos, step.count);
+            Arrays.sort(sorted);
+            out.append(String.format("%-22s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name,
+                    step.count,
+                    step.errors,
+                    step.count / elapsedSeconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0));
+        });
+        return out.toString();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private static final class Step {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+}
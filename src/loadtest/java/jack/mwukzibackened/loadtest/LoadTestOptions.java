@@ -0,0 +1,26 @@
+package jack.mwukzibackened.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code key=value} 형태의 실행 인자를 읽습니다. 같은 키의 시스템 프로퍼티(-Dkey=value)보다 인자가 우선합니다.
+ */
+final class LoadTestOptions {
+
+    private LoadTestOptions() {
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        System.getProperties().forEach((key, value) -> options.put(String.valueOf(key), String.valueOf(value)));
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = trimmed.indexOf('=');
+            if (eq > 0) {
+                options.put(trimmed.substring(0, eq), trimmed.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
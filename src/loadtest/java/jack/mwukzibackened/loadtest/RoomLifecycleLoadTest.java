@@ -0,0 +1,203 @@
+package jack.mwukzibackened.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jack.mwukzibackened.MwukziBackenedApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대역 서버({@link StubUpstreamServer})를 띄우고 그 위에서 애플리케이션을 실행한 뒤,
+ * 방 생성 → 참여 → 취향 제출 → 메뉴 추천 → 식당 검색/더 보기 → 상세 조회 흐름을 동시에 반복해
+ * 단계별 처리량과 지연 백분위를 출력합니다.
+ *
+ * <p>실행: {@code ./gradlew loadTest -Ploadtest.args="rooms=500 concurrency=50 non-blocking=true"}
+ * <br>DB는 평소처럼 SPRING_DATASOURCE_URL/USERNAME/PASSWORD 환경변수로 지정합니다.
+ * {@code target=http://host:port}를 주면 애플리케이션을 띄우지 않고 이미 떠 있는 서버를 대상으로 합니다
+ * (이 경우 그 서버의 카카오/OpenAI URL이 대역 서버를 가리키도록 직접 설정해야 합니다).
+ */
+public class RoomLifecycleLoadTest {
+
+    private static final String[] CHIPS = {"한식", "매운맛", "국물", "면", "고기", "해산물", "가벼운 식사"};
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final String baseUrl;
+    private final int guestsPerRoom;
+    private final AtomicInteger userSequence = new AtomicInteger();
+
+    RoomLifecycleLoadTest(String baseUrl, int guestsPerRoom) {
+        this.baseUrl = baseUrl;
+        this.guestsPerRoom = guestsPerRoom;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int rooms = Integer.parseInt(options.getOrDefault("rooms", "200"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "20"));
+        int guests = Integer.parseInt(options.getOrDefault("guests", "3"));
+        int warmupRooms = Integer.parseInt(options.getOrDefault("warmup-rooms", String.valueOf(Math.min(20, rooms))));
+
+        try (StubUpstreamServer stub = new StubUpstreamServer(
+                Integer.parseInt(options.getOrDefault("stub.port", "0")),
+                StubUpstreamServer.Profile.kakao(options),
+                StubUpstreamServer.Profile.openAi(options)
+        )) {
+            stub.start();
+            ConfigurableApplicationContext context = null;
+            String target = options.get("target");
+            if (target == null) {
+                context = startApplication(stub.baseUrl(), options);
+                target = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            try {
+                System.out.printf("target=%s stub=%s rooms=%d concurrency=%d guests=%d%n",
+                        target, stub.baseUrl(), rooms, concurrency, guests);
+                new RoomLifecycleLoadTest(target, guests).run(warmupRooms, concurrency);
+                RoomLifecycleLoadTest measured = new RoomLifecycleLoadTest(target, guests);
+                double elapsed = measured.run(rooms, concurrency);
+                System.out.printf("%n%d room lifecycles in %.1fs (%.1f rooms/s), upstream calls=%d, injected errors=%d%n%n",
+                        rooms, elapsed, rooms / elapsed, stub.requestCount(), stub.injectedErrorCount());
+                System.out.print(measured.recorder.report(elapsed));
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String stubBaseUrl, Map<String, String> options) {
+        // properties(...)로 넘기면 application.yml보다 우선순위가 낮아 덮어쓰지 못하므로 명령행 인자로 넘깁니다.
+        return new SpringApplicationBuilder(MwukziBackenedApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--kakao.rest-api-key=loadtest",
+                        "--kakao.user-info-url=" + stubBaseUrl + "/v2/user/me",
+                        "--kakao.local-search-url=" + stubBaseUrl + "/v2/local/search/keyword.json",
+                        "--kakao.image-search-url=" + stubBaseUrl + "/v2/search/image",
+                        "--openai.api-key=loadtest",
+                        "--openai.base-url=" + stubBaseUrl,
+                        "--external-api.non-blocking=" + options.getOrDefault("non-blocking", "false"),
+                        "--place.catalog.enabled=" + options.getOrDefault("catalog", "false")
+                );
+    }
+
+    /**
+     * @return 측정 구간 길이(초)
+     */
+    double run(int rooms, int concurrency) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger remaining = new AtomicInteger(rooms);
+        long started = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    runLifecycle();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        return (System.nanoTime() - started) / 1_000_000_000.0;
+    }
+
+    private void runLifecycle() {
+        try {
+            String hostToken = call("login", "POST", "/api/v1/auth/kakao", null,
+                    Map.of("kakao_access_token", "loadtest-" + userSequence.incrementAndGet()))
+                    .path("access_token").asText();
+            JsonNode room = call("room.create", "POST", "/api/v1/rooms", hostToken,
+                    Map.of("center_lat", 37.4979, "center_lng", 127.0276, "radius_meters", 1000));
+            String roomId = room.path("room_id").asText();
+            String inviteCode = room.path("invite_code").asText();
+            call("room.host-join", "POST", "/api/v1/rooms/" + roomId + "/participants/host", hostToken, Map.of());
+
+            List<Map<String, String>> preferences = new ArrayList<>();
+            for (int g = 0; g < guestsPerRoom; g++) {
+                String name = "게스트" + g;
+                String participantId = call("room.join", "POST", "/api/v1/rooms/join", null,
+                        Map.of("invite_code", inviteCode, "display_name", name))
+                        .path("participant_id").asText();
+                call("participants.poll", "GET", "/api/v1/rooms/participants?inviteCode=" + inviteCode, null, null);
+                List<String> chips = List.of(CHIPS[g % CHIPS.length], CHIPS[(g + 3) % CHIPS.length]);
+                call("preference.submit", "POST", "/api/v1/rooms/" + roomId + "/preferences/submit", null,
+                        Map.of("participant_id", participantId, "chips", chips, "free_text", ""));
+                preferences.add(Map.of("name", name, "preference", String.join(", ", chips)));
+            }
+
+            call("ai.recommend", "POST", "/api/v1/rooms/" + roomId + "/ai/recommend-menu", hostToken,
+                    Map.of("participants", preferences, "count", 3));
+
+            JsonNode search = call("places.search", "POST", "/api/v1/rooms/" + roomId + "/places/search", null, Map.of());
+            String cursor = search.path("next_cursor").asText(null);
+            if (cursor != null) {
+                call("places.search.more", "POST", "/api/v1/rooms/" + roomId + "/places/search", null,
+                        Map.of("cursor", cursor));
+            }
+            JsonNode first = search.path("places").path(0);
+            if (!first.isMissingNode()) {
+                call("places.detail", "POST", "/api/v1/rooms/" + roomId + "/places/detail", null, Map.of(
+                        "place_name", first.path("place_name").asText(),
+                        "provider_place_id", first.path("provider_place_id").asText()));
+            }
+        } catch (LifecycleAbortedException ignored) {
+            // 실패한 단계는 이미 기록되었으므로 다음 방으로 넘어갑니다.
+        }
+    }
+
+    private JsonNode call(String step, String method, String path, String bearer, Object body) {
+        long started = System.nanoTime();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json");
+            if (bearer != null) {
+                request.header("Authorization", "Bearer " + bearer);
+            }
+            request.method(method, body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(step, System.nanoTime() - started, success);
+            if (!success) {
+                throw new LifecycleAbortedException();
+            }
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (LifecycleAbortedException ex) {
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recorder.record(step, System.nanoTime() - started, false);
+            throw new LifecycleAbortedException();
+        } catch (Exception ex) {
+            recorder.record(step, System.nanoTime() - started, false);
+            throw new LifecycleAbortedException();
+        }
+    }
+
+    private static final class LifecycleAbortedException extends RuntimeException {
+        LifecycleAbortedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package jack.mwukzibackened.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 카카오/OpenAI 대역 서버.
+ * kakao.local-search-url, kakao.image-search-url, kakao.user-info-url, openai.base-url을 이 서버로 돌리면
+ * 실제 할당량을 쓰지 않고 같은 형태의 응답을 받을 수 있습니다.
+ *
+ * <p>엔드포인트별 지연은 로그정규분포(중앙값 + p99)로 뽑고, 설정한 비율만큼 429/503을 돌려줍니다.
+ * 지연은 스케줄러로 응답 시점을 미루는 방식이라 스레드를 붙잡지 않습니다.
+ *
+ * <p>단독 실행: {@code ./gradlew stubUpstream -Ploadtest.args="stub.port=18080 stub.kakao.error-rate=0.02"}
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    private static final double Z_99 = 2.326;
+    private static final String[] MENU_NAMES = {"김치찌개", "돈까스", "쌀국수", "초밥", "파스타", "마라탕", "국밥", "냉면"};
+
+    private final HttpServer server;
+    private final ScheduledExecutorService scheduler;
+    private final Profile kakaoProfile;
+    private final Profile openAiProfile;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    // 받았지만 아직 응답하지 않은 요청 수. 애플리케이션이 동시에 붙잡고 있는 upstream 호출 수와 같습니다.
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public StubUpstreamServer(int port, Profile kakaoProfile, Profile openAiProfile) throws IOException {
+        this.kakaoProfile = kakaoProfile;
+        this.openAiProfile = openAiProfile;
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.setExecutor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2)));
+        server.createContext("/v2/local/search/keyword.json", exchange -> serve(exchange, kakaoProfile, this::keywordSearch));
+        server.createContext("/v2/search/image", exchange -> serve(exchange, kakaoProfile, this::imageSearch));
+        server.createContext("/v2/user/me", exchange -> serve(exchange, kakaoProfile, this::userInfo));
+        server.createContext("/v1/chat/completions", exchange -> serve(exchange, openAiProfile, this::chatCompletion));
+        server.createContext("/place/", exchange -> serve(exchange, kakaoProfile, this::placePage));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int port = Integer.parseInt(options.getOrDefault("stub.port", "18080"));
+        StubUpstreamServer stub = new StubUpstreamServer(port, Profile.kakao(options), Profile.openAi(options));
+        stub.start();
+        System.out.printf("stub upstream listening on %s%n", stub.baseUrl());
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        Thread.currentThread().join();
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 마지막 호출 이후 동시에 처리 중이던 요청 수의 최댓값을 돌려주고 0부터 다시 셉니다.
+     */
+    public int takePeakInFlight() {
+        return peakInFlight.getAndSet(inFlight.get());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+    }
+
+    private void serve(HttpExchange exchange, Profile profile, Handler handler) throws IOException {
+        requests.incrementAndGet();
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        long delayMicros = profile.sampleLatencyMicros();
+        scheduler.schedule(() -> {
+            // ThreadLocalRandom은 쓰는 스레드에서 current()로 얻어야 합니다.
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            try {
+                if (random.nextDouble() < profile.errorRate()) {
+                    injectedErrors.incrementAndGet();
+                    int status = random.nextBoolean() ? 429 : 503;
+                    respond(exchange, status, "text/plain", ("stub error " + status).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                Response response = handler.handle(exchange, queryOf(exchange), requestBody);
+                respond(exchange, 200, response.contentType(), response.body().getBytes(StandardCharsets.UTF_8));
+            } catch (Exception ex) {
+                try {
+                    respond(exchange, 500, "text/plain", String.valueOf(ex).getBytes(StandardCharsets.UTF_8));
+                } catch (IOException ignored) {
+                    exchange.close();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, delayMicros, TimeUnit.MICROSECONDS);
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * query와 중심 좌표로 결정적인 식당 목록을 만듭니다. page가 바뀌면 다른 식당이 나오고 5페이지에서 끝납니다.
+     */
+    private Response keywordSearch(HttpExchange exchange, Map<String, String> query, byte[] body) {
+        String keyword = query.getOrDefault("query", "식당");
+        double x = Double.parseDouble(query.getOrDefault("x", "127.0276"));
+        double y = Double.parseDouble(query.getOrDefault("y", "37.4979"));
+        int radius = Integer.parseInt(query.getOrDefault("radius", "1000"));
+        int size = Math.min(15, Integer.parseInt(query.getOrDefault("size", "15")));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        SplittableRandom random = new SplittableRandom(keyword.hashCode() * 31L + page);
+
+        StringBuilder json = new StringBuilder(512 * size);
+        json.append("{\"meta\":{\"total_count\":").append(size * 5)
+                .append(",\"pageable_count\":").append(size * 5)
+                .append(",\"is_end\":").append(page >= 5)
+                .append("},\"documents\":[");
+        for (int i = 0; i < size; i++) {
+            long id = Math.abs((long) keyword.hashCode()) % 1_000_000L * 1000 + (page - 1) * 15L + i;
+            double distance = radius * ((page - 1) * size + i + random.nextDouble()) / (size * 5.0);
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double lat = y + distance * Math.cos(bearing) / 111_320.0;
+            double lng = x + distance * Math.sin(bearing) / (111_320.0 * Math.cos(Math.toRadians(y)));
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(id)
+                    .append("\",\"place_name\":\"").append(keyword).append(' ').append(id % 1000).append("호점")
+                    .append("\",\"category_name\":\"음식점 > 한식 > ").append(keyword)
+                    .append("\",\"category_group_code\":\"FD6\",\"category_group_name\":\"음식점\"")
+                    .append(",\"phone\":\"02-000-").append(String.format(Locale.ROOT, "%04d", id % 10000))
+                    .append("\",\"address_name\":\"서울 강남구 역삼동 ").append(id % 900 + 1)
+                    .append("\",\"road_address_name\":\"서울 강남구 테헤란로 ").append(id % 500 + 1)
+                    .append("\",\"x\":\"").append(String.format(Locale.ROOT, "%.7f", lng))
+                    .append("\",\"y\":\"").append(String.format(Locale.ROOT, "%.7f", lat))
+                    .append("\",\"place_url\":\"").append(baseUrl()).append("/place/").append(id)
+                    .append("\",\"distance\":\"").append(Math.round(distance))
+                    .append("\",\"padding\":\"").append(kakaoProfile.padding())
+                    .append("\"}");
+        }
+        json.append("]}");
+        return Response.json(json.toString());
+    }
+
+    private Response imageSearch(HttpExchange exchange, Map<String, String> query, byte[] body) {
+        int size = Math.min(80, Integer.parseInt(query.getOrDefault("size", "10")));
+        int seed = query.getOrDefault("query", "").hashCode();
+        StringBuilder json = new StringBuilder("{\"meta\":{\"total_count\":").append(size)
+                .append(",\"is_end\":true},\"documents\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"image_url\":\"http://img.stub.local/").append(Integer.toHexString(seed)).append('/').append(i)
+                    .append(".jpg\",\"thumbnail_url\":\"https://thumb.stub.local/").append(i)
+                    .append(".jpg\",\"width\":800,\"height\":600,\"padding\":\"").append(kakaoProfile.padding())
+                    .append("\"}");
+        }
+        json.append("]}");
+        return Response.json(json.toString());
+    }
+
+    /**
+     * Access Token 문자열로 사용자 id를 정해, 같은 토큰은 항상 같은 사용자로 로그인됩니다.
+     */
+    private Response userInfo(HttpExchange exchange, Map<String, String> query, byte[] body) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        long id = Math.abs((long) String.valueOf(authorization).hashCode());
+        return Response.json("{\"id\":" + id + ",\"kakao_account\":{\"email\":\"user" + id
+                + "@stub.local\",\"profile\":{\"nickname\":\"부하" + id % 10000 + "\"}}}");
+    }
+
+    private Response chatCompletion(HttpExchange exchange, Map<String, String> query, byte[] body) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder menus = new StringBuilder();
+        int offset = random.nextInt(MENU_NAMES.length);
+        for (int i = 0; i < 3; i++) {
+            if (i > 0) {
+                menus.append(',');
+            }
+            menus.append("{\\\"name\\\":\\\"").append(MENU_NAMES[(offset + i) % MENU_NAMES.length])
+                    .append("\\\",\\\"reason\\\":\\\"부하 테스트용 추천\\\"}");
+        }
+        String content = "{\\\"summary\\\":\\\"부하 테스트 요약\\\",\\\"commonGround\\\":\\\"공통 취향\\\","
+                + "\\\"compromise\\\":\\\"타협안\\\",\\\"menus\\\":[" + menus + "]}";
+        return Response.json("{\"id\":\"chatcmpl-stub\",\"object\":\"chat.completion\",\"choices\":[{\"index\":0,"
+                + "\"message\":{\"role\":\"assistant\",\"content\":\"" + content + "\"},\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"prompt_tokens\":200,\"completion_tokens\":120,\"total_tokens\":320}}");
+    }
+
+    private Response placePage(HttpExchange exchange, Map<String, String> query, byte[] body) {
+        String id = exchange.getRequestURI().getPath().substring("/place/".length());
+        return new Response("text/html; charset=UTF-8", "<!doctype html><html><head><title>place " + id + "</title>"
+                + "<meta property=\"og:image\" content=\"//img.stub.local/og/" + id + ".jpg\">"
+                + "</head><body>" + kakaoProfile.padding() + "</body></html>");
+    }
+
+    private static Map<String, String> queryOf(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange, Map<String, String> query, byte[] body) throws Exception;
+    }
+
+    private record Response(String contentType, String body) {
+
+        static Response json(String body) {
+            return new Response("application/json; charset=UTF-8", body);
+        }
+    }
+
+    /**
+     * upstream 하나의 응답 특성.
+     *
+     * @param medianMillis 지연 중앙값
+     * @param p99Millis    지연 p99 (중앙값과 함께 로그정규분포의 모양을 정합니다)
+     * @param errorRate    429/503을 돌려줄 확률 (0~1)
+     * @param paddingBytes 문서마다 덧붙일 더미 필드 크기 (응답 크기 조절용)
+     */
+    public record Profile(double medianMillis, double p99Millis, double errorRate, int paddingBytes) {
+
+        static Profile kakao(Map<String, String> options) {
+            return of(options, "stub.kakao", 40, 400, 0.0, 0);
+        }
+
+        static Profile openAi(Map<String, String> options) {
+            return of(options, "stub.openai", 1500, 6000, 0.0, 0);
+        }
+
+        private static Profile of(
+                Map<String, String> options,
+                String prefix,
+                double medianMillis,
+                double p99Millis,
+                double errorRate,
+                int paddingBytes
+        ) {
+            return new Profile(
+                    Double.parseDouble(options.getOrDefault(prefix + ".median-ms", String.valueOf(medianMillis))),
+                    Double.parseDouble(options.getOrDefault(prefix + ".p99-ms", String.valueOf(p99Millis))),
+                    Double.parseDouble(options.getOrDefault(prefix + ".error-rate", String.valueOf(errorRate))),
+                    Integer.parseInt(options.getOrDefault(prefix + ".padding-bytes", String.valueOf(paddingBytes)))
+            );
+        }
+
+        long sampleLatencyMicros() {
+            if (medianMillis <= 0) {
+                return 0;
+            }
+            double sigma = p99Millis > medianMillis ? Math.log(p99Millis / medianMillis) / Z_99 : 0;
+            double millis = medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+            return (long) (millis * 1000);
+        }
+
+        String padding() {
+            return "x".repeat(Math.max(0, paddingBytes));
+        }
+    }
+}
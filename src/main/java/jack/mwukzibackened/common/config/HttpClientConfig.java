@@ -0,0 +1,10 @@
+package jack.mwukzibackened.common.config;
+
+import jack.mwukzibackened.common.http.HttpClientProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+}
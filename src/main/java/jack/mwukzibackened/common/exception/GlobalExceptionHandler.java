@@ -74,6 +74,16 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(OpenAiApiException.class)
+    public ResponseEntity<ErrorResponse> handleOpenAiApi(OpenAiApiException ex) {
+        log.warn("OpenAI API 오류: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(ErrorResponse.builder()
+                        .code("OPENAI_API_ERROR")
+                        .message("외부 AI 서비스 오류입니다")
+                        .build());
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResource(NoResourceFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
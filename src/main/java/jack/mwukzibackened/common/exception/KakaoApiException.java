@@ -1,11 +1,28 @@
 package jack.mwukzibackened.common.exception;
 
 public class KakaoApiException extends RuntimeException {
+
+    private final Integer statusCode;
+
     public KakaoApiException(String message) {
         super(message);
+        this.statusCode = null;
+    }
+
+    public KakaoApiException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
     }
 
     public KakaoApiException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = null;
+    }
+
+    /**
+     * 카카오가 돌려준 HTTP 상태 코드 (응답을 받지 못한 경우 null)
+     */
+    public Integer getStatusCode() {
+        return statusCode;
     }
 }
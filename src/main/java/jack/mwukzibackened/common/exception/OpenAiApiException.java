@@ -0,0 +1,7 @@
+package jack.mwukzibackened.common.exception;
+
+public class OpenAiApiException extends RuntimeException {
+    public OpenAiApiException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,86 @@
+package jack.mwukzibackened.common.http;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 API별로 커넥션 풀을 분리한 공용 WebClient 모음.
+ * 풀 지표(active/idle/pending)는 reactor.netty.connection.provider.* 이름으로 Micrometer에 노출됩니다.
+ */
+@Component
+public class ExternalWebClients {
+
+    public static final String KAKAO_DAPI = "kakao-dapi";
+    public static final String KAKAO_KAPI = "kakao-kapi";
+    public static final String OPENAI = "openai";
+
+    private final List<ConnectionProvider> providers = new ArrayList<>();
+    private final WebClient kakaoDapi;
+    private final WebClient kakaoKapi;
+    private final WebClient openAi;
+
+    public ExternalWebClients(HttpClientProperties properties) {
+        this.kakaoDapi = create(KAKAO_DAPI, properties.upstream(KAKAO_DAPI));
+        this.kakaoKapi = create(KAKAO_KAPI, properties.upstream(KAKAO_KAPI));
+        this.openAi = create(OPENAI, properties.upstream(OPENAI));
+    }
+
+    /**
+     * dapi.kakao.com (장소/이미지 검색)
+     */
+    public WebClient kakaoDapi() {
+        return kakaoDapi;
+    }
+
+    /**
+     * kapi.kakao.com (사용자 정보)
+     */
+    public WebClient kakaoKapi() {
+        return kakaoKapi;
+    }
+
+    public WebClient openAi() {
+        return openAi;
+    }
+
+    @PreDestroy
+    public void close() {
+        providers.forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient create(String name, HttpClientProperties.Upstream upstream) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(upstream.getMaxConnections())
+                .pendingAcquireMaxCount(upstream.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(upstream.getPendingAcquireTimeout())
+                .maxIdleTime(upstream.getMaxIdleTime())
+                .maxLifeTime(upstream.getMaxLifeTime())
+                .evictInBackground(upstream.getEvictInterval())
+                .metrics(true)
+                .build();
+        providers.add(provider);
+
+        // HTTP/2는 TLS ALPN으로 협상하고, 지원하지 않는 서버에는 HTTP/1.1 keep-alive로 붙습니다.
+        HttpProtocol[] protocols = upstream.isHttp2()
+                ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[]{HttpProtocol.HTTP11};
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(protocols)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) upstream.getConnectTimeout().toMillis())
+                .responseTimeout(upstream.getResponseTimeout());
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 꼬리 지연(tail latency)을 줄이기 위한 헤지 요청 정책.
+ * 첫 요청이 최근 응답 시간의 p{percentile} 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 쪽을 씁니다.
+ * 진 쪽은 취소됩니다. 헤지 요청은 요청마다 budget-ratio만큼 쌓이는 크레딧을 써야 보낼 수 있어 전체 트래픽 대비 비율이 제한됩니다.
+ * 첫 요청이 실패하면 헤지하지 않고 그 오류를 그대로 전달합니다(헤지는 지연 대응용이지 재시도가 아닙니다).
+ *
+ * <p>지연 표본은 첫 요청 기준입니다. 헤지가 이겨 첫 요청이 취소되면 취소 시점까지의 시간을 하한값으로 넣습니다.
+ * 빨리 끝난 요청만 표본에 남으면 p{percentile}가 점점 내려가 헤지가 과하게 나가기 때문입니다.
+ * 응답 시간 분포가 다른 요청끼리 표본을 섞지 않도록 정책은 요청 종류(operation)마다 따로 둡니다.
+ */
+public class HedgingPolicy {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_CREDITS = 10;
+    private static final long DELAY_REFRESH_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double budgetRatio;
+    private final long[] samples;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+    private final Counter hedgesSent;
+    private final Counter budgetExhausted;
+
+    private int sampleCount;
+    private int samplePosition;
+    private double credits;
+    private long delayNanos;
+    private long delayComputedAtNanos;
+
+    HedgingPolicy(String upstream, String operation, HttpClientProperties.Hedging hedging, MeterRegistry meterRegistry) {
+        this.enabled = hedging.isEnabled();
+        this.percentile = Math.min(100, Math.max(0, hedging.getPercentile()));
+        this.minDelayNanos = hedging.getMinDelay().toNanos();
+        this.maxDelayNanos = hedging.getMaxDelay().toNanos();
+        this.budgetRatio = hedging.getBudgetRatio();
+        this.samples = new long[Math.max(MIN_SAMPLES, hedging.getSampleSize())];
+        this.delayNanos = maxDelayNanos;
+        this.primaryWins = Counter.builder("upstream.hedging.winner")
+                .tag("upstream", upstream).tag("operation", operation).tag("attempt", "primary")
+                .register(meterRegistry);
+        this.hedgeWins = Counter.builder("upstream.hedging.winner")
+                .tag("upstream", upstream).tag("operation", operation).tag("attempt", "hedge")
+                .register(meterRegistry);
+        this.hedgesSent = Counter.builder("upstream.hedging.sent")
+                .tag("upstream", upstream).tag("operation", operation)
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("upstream.hedging.budget-exhausted")
+                .tag("upstream", upstream).tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("upstream.hedging.delay", this, policy -> policy.currentDelayNanos() / 1_000_000.0)
+                .tag("upstream", upstream).tag("operation", operation)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * attempt는 구독할 때마다 새 요청을 보내는 Mono여야 합니다(Mono.defer 등).
+     */
+    public <T> Mono<T> hedge(Mono<T> attempt) {
+        if (!enabled) {
+            return attempt;
+        }
+        return Mono.defer(() -> {
+            addCredit();
+            long startedAt = System.nanoTime();
+            AtomicBoolean sampled = new AtomicBoolean();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+            Mono<Attempt<T>> primary = attempt
+                    .doOnNext(value -> {
+                        if (sampled.compareAndSet(false, true)) {
+                            recordLatency(System.nanoTime() - startedAt);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        // 실제 지연은 이보다 길었으므로 하한값입니다.
+                        if (sampled.compareAndSet(false, true)) {
+                            recordLatency(System.nanoTime() - startedAt);
+                        }
+                    })
+                    .doOnError(ex -> {
+                        primaryError.set(ex);
+                        primaryFailed.tryEmitEmpty();
+                    })
+                    .map(value -> new Attempt<>(value, false));
+            Mono<Attempt<T>> hedged = Mono.delay(Duration.ofNanos(currentDelayNanos()))
+                    .takeUntilOther(primaryFailed.asMono())
+                    .filter(tick -> tryConsumeCredit())
+                    .flatMap(tick -> {
+                        hedgesSent.increment();
+                        return attempt.map(value -> new Attempt<>(value, true));
+                    });
+
+            return Mono.firstWithValue(primary, hedged)
+                    .doOnNext(winner -> (winner.hedge() ? hedgeWins : primaryWins).increment())
+                    .map(Attempt::value)
+                    // 둘 다 값을 내지 못하면 firstWithValue 대신 첫 요청의 원래 오류를 돌려줍니다.
+                    .onErrorMap(ex -> ex instanceof NoSuchElementException && primaryError.get() != null,
+                            ex -> primaryError.get());
+        });
+    }
+
+    private synchronized void addCredit() {
+        credits = Math.min(MAX_CREDITS, credits + budgetRatio);
+    }
+
+    private synchronized boolean tryConsumeCredit() {
+        if (credits < 1) {
+            budgetExhausted.increment();
+            return false;
+        }
+        credits -= 1;
+        return true;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        samples[samplePosition] = nanos;
+        samplePosition = (samplePosition + 1) % samples.length;
+        sampleCount = Math.min(samples.length, sampleCount + 1);
+    }
+
+    /**
+     * 표본 정렬 비용을 줄이기 위해 지연값은 최대 1초에 한 번만 다시 계산합니다.
+     */
+    private synchronized long currentDelayNanos() {
+        long now = System.nanoTime();
+        if (sampleCount < MIN_SAMPLES) {
+            return maxDelayNanos;
+        }
+        if (now - delayComputedAtNanos >= DELAY_REFRESH_NANOS) {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            long value = sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+            delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, value));
+            delayComputedAtNanos = now;
+        }
+        return delayNanos;
+    }
+
+    private record Attempt<T>(T value, boolean hedge) {
+    }
+}
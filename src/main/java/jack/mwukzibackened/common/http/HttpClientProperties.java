@@ -0,0 +1,70 @@
+package jack.mwukzibackened.common.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 API(upstream)별 HTTP 커넥션 풀, 보호(rate limit / circuit breaker / bulkhead), 헤징 설정.
+ * 키는 kakao-dapi, kakao-kapi, openai 입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+    public Upstream upstream(String name) {
+        return upstreams.getOrDefault(name, new Upstream());
+    }
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 100;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInterval = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration responseTimeout = Duration.ofSeconds(10);
+        private boolean http2 = true;
+        private Guard guard = new Guard();
+        private Hedging hedging = new Hedging();
+    }
+
+    @Getter
+    @Setter
+    public static class Guard {
+        // 초당 허용 호출 수(0 이하이면 제한 없음)와 순간 허용량
+        private double rateLimitPerSecond = 0;
+        private int burst = 50;
+        // 동시에 진행 중일 수 있는 호출 수
+        private int maxConcurrentCalls = 50;
+        // 최근 sliding-window-size개 호출 중 실패율이 이 비율(%) 이상이면 차단
+        private int failureRateThreshold = 50;
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+        private boolean enabled = false;
+        // 최근 응답 시간의 이 백분위수만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보냅니다.
+        private double percentile = 95;
+        private Duration minDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private int sampleSize = 512;
+        // 헤지 요청은 전체 요청 수의 이 비율을 넘지 않습니다.
+        private double budgetRatio = 0.05;
+    }
+}
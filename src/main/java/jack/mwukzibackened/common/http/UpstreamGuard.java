@@ -0,0 +1,253 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 외부 API 하나에 대한 호출 보호막.
+ * 차단기(circuit breaker)가 열려 있거나, 초당 호출 한도(token bucket)를 넘었거나, 동시 호출 수(bulkhead)가 가득 차면
+ * 대기하지 않고 즉시 거절합니다. 거절 시 어떤 예외를 낼지는 호출하는 쪽이 정합니다.
+ */
+public class UpstreamGuard {
+
+    public static final String RATE_LIMITED = "rate_limited";
+    public static final String BULKHEAD_FULL = "bulkhead_full";
+    public static final String CIRCUIT_OPEN = "circuit_open";
+
+    private final String name;
+    private final TokenBucket tokenBucket;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter ignored;
+
+    UpstreamGuard(String name, HttpClientProperties.Guard guard, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.tokenBucket = guard.getRateLimitPerSecond() > 0
+                ? new TokenBucket(guard.getRateLimitPerSecond(), guard.getBurst())
+                : null;
+        this.bulkhead = new Semaphore(guard.getMaxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(guard);
+        this.meterRegistry = meterRegistry;
+        this.successes = Counter.builder("upstream.guard.calls")
+                .tag("upstream", name).tag("outcome", "success")
+                .register(meterRegistry);
+        this.failures = Counter.builder("upstream.guard.calls")
+                .tag("upstream", name).tag("outcome", "failure")
+                .register(meterRegistry);
+        this.ignored = Counter.builder("upstream.guard.calls")
+                .tag("upstream", name).tag("outcome", "ignored_error")
+                .register(meterRegistry);
+        Gauge.builder("upstream.guard.circuit.state", circuitBreaker, CircuitBreaker::stateValue)
+                .tag("upstream", name)
+                .description("0=closed, 1=open, 2=half-open")
+                .register(meterRegistry);
+        Gauge.builder("upstream.guard.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("upstream", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * call을 보호막 안에서 실행합니다.
+     *
+     * @param countsAsFailure 차단기 실패로 셀 오류인지 (잘못된 요청 같은 클라이언트 오류는 제외해야 합니다)
+     * @param rejection       거절 사유(rate_limited / bulkhead_full / circuit_open)를 받아 낼 예외를 만듭니다
+     */
+    public <T> Mono<T> protect(
+            Mono<T> call,
+            Predicate<Throwable> countsAsFailure,
+            Function<String, ? extends RuntimeException> rejection
+    ) {
+        return Mono.defer(() -> {
+            if (circuitBreaker.isOpen()) {
+                return reject(CIRCUIT_OPEN, rejection);
+            }
+            if (tokenBucket != null && !tokenBucket.tryAcquire()) {
+                return reject(RATE_LIMITED, rejection);
+            }
+            if (!bulkhead.tryAcquire()) {
+                return reject(BULKHEAD_FULL, rejection);
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                bulkhead.release();
+                return reject(CIRCUIT_OPEN, rejection);
+            }
+
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(true);
+                            successes.increment();
+                        }
+                    })
+                    .doOnError(ex -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            boolean failure = countsAsFailure.test(ex);
+                            circuitBreaker.onResult(!failure);
+                            (failure ? failures : ignored).increment();
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL && recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onCancel();
+                        }
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    private <T> Mono<T> reject(String reason, Function<String, ? extends RuntimeException> rejection) {
+        meterRegistry.counter("upstream.guard.rejected", "upstream", name, "reason", reason).increment();
+        return Mono.error(rejection.apply(reason));
+    }
+
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+
+    /**
+     * 최근 N개 호출 결과를 원형 버퍼로 보관하는 개수 기반 차단기.
+     * OPEN 상태가 open-duration 동안 유지되면 half-open-calls개의 시험 호출만 허용하고,
+     * 시험 호출이 모두 성공하면 닫고 하나라도 실패하면 다시 엽니다.
+     */
+    private static final class CircuitBreaker {
+
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final boolean[] window;
+        private final int failureRateThreshold;
+        private final int minimumCalls;
+        private final long openDurationNanos;
+        private final int halfOpenCalls;
+
+        private State state = State.CLOSED;
+        private int position;
+        private int recordedCalls;
+        private int failedCalls;
+        private long openedAtNanos;
+        private int halfOpenPermits;
+        private int halfOpenSuccesses;
+
+        private CircuitBreaker(HttpClientProperties.Guard guard) {
+            this.window = new boolean[Math.max(1, guard.getSlidingWindowSize())];
+            this.failureRateThreshold = guard.getFailureRateThreshold();
+            this.minimumCalls = Math.max(1, guard.getMinimumCalls());
+            this.openDurationNanos = guard.getOpenDuration().toNanos();
+            this.halfOpenCalls = Math.max(1, guard.getHalfOpenCalls());
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN && System.nanoTime() - openedAtNanos < openDurationNanos;
+        }
+
+        synchronized boolean tryAcquirePermission() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        }
+
+        synchronized void onResult(boolean success) {
+            if (state == State.HALF_OPEN) {
+                if (!success) {
+                    open();
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    close();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+
+            // 원형 버퍼에서 밀려나는 결과를 빼고 새 결과를 더합니다. (window[i] == true 는 실패)
+            if (recordedCalls == window.length) {
+                if (window[position]) {
+                    failedCalls--;
+                }
+            } else {
+                recordedCalls++;
+            }
+            window[position] = !success;
+            if (!success) {
+                failedCalls++;
+            }
+            position = (position + 1) % window.length;
+
+            if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                open();
+            }
+        }
+
+        synchronized void onCancel() {
+            // 취소된 시험 호출은 결과를 알 수 없으므로 허용 개수만 돌려줍니다.
+            if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+                halfOpenPermits++;
+            }
+        }
+
+        synchronized int stateValue() {
+            return switch (state) {
+                case CLOSED -> 0;
+                case OPEN -> 1;
+                case HALF_OPEN -> 2;
+            };
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            position = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jack.mwukzibackened.common.exception.KakaoApiException;
+import jack.mwukzibackened.common.exception.KakaoAuthException;
+import org.springframework.stereotype.Component;
+
+/**
+ * ExternalWebClients와 같은 upstream 단위로 나눈 호출 보호막 모음.
+ * 지표는 upstream.guard.* 이름으로 노출됩니다.
+ */
+@Component
+public class UpstreamGuards {
+
+    private final UpstreamGuard kakaoDapi;
+    private final UpstreamGuard kakaoKapi;
+    private final UpstreamGuard openAi;
+
+    public UpstreamGuards(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.kakaoDapi = create(ExternalWebClients.KAKAO_DAPI, properties, meterRegistry);
+        this.kakaoKapi = create(ExternalWebClients.KAKAO_KAPI, properties, meterRegistry);
+        this.openAi = create(ExternalWebClients.OPENAI, properties, meterRegistry);
+    }
+
+    public UpstreamGuard kakaoDapi() {
+        return kakaoDapi;
+    }
+
+    public UpstreamGuard kakaoKapi() {
+        return kakaoKapi;
+    }
+
+    public UpstreamGuard openAi() {
+        return openAi;
+    }
+
+    /**
+     * 카카오 호출 오류 중 차단기 실패로 셀 것: 타임아웃/연결 오류, 5xx, 429.
+     * 인증 실패나 그 밖의 4xx는 요청 쪽 문제이므로 제외합니다.
+     */
+    public static boolean isKakaoFailure(Throwable ex) {
+        if (ex instanceof KakaoAuthException) {
+            return false;
+        }
+        if (ex instanceof KakaoApiException kakaoApiException && kakaoApiException.getStatusCode() != null) {
+            int status = kakaoApiException.getStatusCode();
+            return status >= 500 || status == 429;
+        }
+        return true;
+    }
+
+    public static KakaoApiException kakaoRejection(String reason) {
+        return new KakaoApiException("카카오 API 호출 보호로 거절되었습니다: " + reason);
+    }
+
+    private UpstreamGuard create(String name, HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return new UpstreamGuard(name, properties.upstream(name).getGuard(), meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * upstream별 헤지 정책. 지연 편차가 큰 장소/이미지 검색(kakao-dapi)에만 둡니다.
+ * 키워드 검색과 이미지 검색은 응답 시간 분포가 달라 설정은 같이 쓰되 지연 표본은 따로 모읍니다.
+ * 지표는 upstream.hedging.* 이름으로 노출됩니다.
+ */
+@Component
+public class UpstreamHedging {
+
+    private final HedgingPolicy kakaoKeywordSearch;
+    private final HedgingPolicy kakaoImageSearch;
+
+    public UpstreamHedging(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        HttpClientProperties.Hedging kakaoDapi = properties.upstream(ExternalWebClients.KAKAO_DAPI).getHedging();
+        this.kakaoKeywordSearch = new HedgingPolicy(ExternalWebClients.KAKAO_DAPI, "keyword-search", kakaoDapi, meterRegistry);
+        this.kakaoImageSearch = new HedgingPolicy(ExternalWebClients.KAKAO_DAPI, "image-search", kakaoDapi, meterRegistry);
+    }
+
+    public HedgingPolicy kakaoKeywordSearch() {
+        return kakaoKeywordSearch;
+    }
+
+    public HedgingPolicy kakaoImageSearch() {
+        return kakaoImageSearch;
+    }
+}
@@ -34,6 +34,7 @@ public class SecurityConfig {
                                 "/api/v1/rooms/join",
                                 "/api/v1/rooms/leave",
                                 "/api/v1/rooms/*/places/search",
+                                "/api/v1/rooms/*/places/search/stream",
                                 "/api/v1/rooms/*/places/detail",
                                 "/api/v1/rooms/*/places/selections",
                                 "/api/v1/rooms/*/places/selections/summary",
@@ -0,0 +1,210 @@
+package jack.mwukzibackened.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * SSE 전송 엔진. 이벤트는 {@link #frame}에서 한 번만 직렬화하고, 실제 쓰기는 요청 스레드가 아닌 전용 스레드 풀에서 합니다.
+ * 구독자마다 대기열이 따로 있어 느린 클라이언트 한 명이 다른 구독자나 변경 요청의 응답을 늦추지 않습니다.
+ *
+ * <p>구독자 하나는 동시에 최대 한 개의 전송 작업만 풀에 올리므로 풀 대기열 길이는 구독자 수를 넘지 않습니다.
+ *
+ * <p>하트비트는 구독자마다 스레드나 스케줄 작업을 두지 않고 하나의 타이밍 휠(HashedWheelTimer)에 올립니다.
+ * 주기마다 주석 프레임을 보내 끊긴 연결을 쓰기 실패로 찾아내고, 전송이 멈춘 연결과 오래 이벤트가 없던 연결을 정리합니다.
+ */
+@Component
+@Slf4j
+public class SseFanout {
+
+    public enum OverflowPolicy {
+        /** 버려도 되는 프레임(하트비트, 전체 상태 이벤트) 중 가장 오래된 것을 버립니다. 그런 프레임이 없으면 연결을 끊습니다. */
+        DROP_OLDEST,
+        /** 연결을 끊습니다. 클라이언트는 재연결하며 최신 상태를 다시 받습니다. */
+        DISCONNECT
+    }
+
+    /**
+     * 전송 엔진이 먼저 연결을 끊는 이유. sse.fanout.disconnects 지표의 reason 태그로 남습니다.
+     */
+    enum DisconnectReason {
+        /** 대기열이 가득 찼고 버릴 수 있는 프레임이 없었습니다. */
+        OVERFLOW,
+        /** 대기열에 프레임이 남은 채 stall-timeout 동안 전송이 진척되지 않았습니다. */
+        STALLED
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    private final ThreadPoolExecutor executor;
+    private final HashedWheelTimer heartbeatWheel;
+    private final long heartbeatIntervalNanos;
+    private final long idleTimeoutNanos;
+    private final long stallTimeoutNanos;
+    private final int subscriberQueueSize;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter sent;
+    private final Counter heartbeats;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Map<DisconnectReason, Counter> disconnects = new EnumMap<>(DisconnectReason.class);
+    private final Counter idleReaped;
+    private final DistributionSummary frameBytes;
+
+    public SseFanout(
+            MeterRegistry meterRegistry,
+            @Value("${sse.fanout.threads:4}") int threads,
+            @Value("${sse.fanout.subscriber-queue-size:16}") int subscriberQueueSize,
+            @Value("${sse.fanout.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${sse.heartbeat.interval:15s}") Duration heartbeatInterval,
+            @Value("${sse.heartbeat.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${sse.heartbeat.stall-timeout:60s}") Duration stallTimeout
+    ) {
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+        this.heartbeatWheel = new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        }, 100, TimeUnit.MILLISECONDS, 512);
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-fanout-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.sent = meterRegistry.counter("sse.fanout.frames", "result", "sent");
+        this.heartbeats = meterRegistry.counter("sse.fanout.frames", "result", "heartbeat");
+        this.dropped = meterRegistry.counter("sse.fanout.frames", "result", "dropped");
+        this.failed = meterRegistry.counter("sse.fanout.frames", "result", "failed");
+        for (DisconnectReason reason : DisconnectReason.values()) {
+            disconnects.put(reason, meterRegistry.counter("sse.fanout.disconnects", "reason", reason.name().toLowerCase()));
+        }
+        this.idleReaped = meterRegistry.counter("sse.fanout.disconnects", "reason", "idle");
+        this.frameBytes = DistributionSummary.builder("sse.fanout.frame.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("sse.fanout.subscribers", subscribers, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("sse.fanout.backlog", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        heartbeatWheel.stop();
+        executor.shutdown();
+    }
+
+    /**
+     * @param onClose 연결이 끝났을 때(정상 종료, 타임아웃, 오류, 느린/유휴 구독자 정리) 한 번 호출됩니다.
+     *                하트비트와 정리가 시작되기 전에 구독자에 들어가므로, 반환 전에 끊긴 연결에서도 빠지지 않습니다.
+     */
+    public SseSubscriber subscribe(SseEmitter emitter, Consumer<SseSubscriber> onClose) {
+        subscribers.incrementAndGet();
+        SseSubscriber subscriber = new SseSubscriber(emitter, this, subscriberQueueSize, onClose);
+        if (heartbeatIntervalNanos > 0) {
+            // 같은 시각에 몰린 구독이 같은 틱에 하트비트를 보내지 않도록 첫 주기를 흩어 둡니다.
+            scheduleHeartbeat(subscriber, ThreadLocalRandom.current().nextLong(heartbeatIntervalNanos) + 1);
+        }
+        return subscriber;
+    }
+
+    /**
+     * data를 JSON으로 한 번 직렬화해 프레임을 만듭니다.
+     */
+    public SseFrame frame(String event, Object data) {
+        return SseFrame.of(event, serialize(data));
+    }
+
+    /**
+     * 이벤트 id를 붙일 프레임을 직접 만들 때 쓰는 직렬화. 결과는 SSE data 한 줄로 쓸 수 있는 압축 JSON입니다.
+     */
+    public byte[] serialize(Object data) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(data);
+            frameBytes.record(json.length);
+            return json;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패", ex);
+        }
+    }
+
+    public void publish(Iterable<SseSubscriber> targets, SseFrame frame) {
+        for (SseSubscriber subscriber : targets) {
+            subscriber.send(frame);
+        }
+    }
+
+    OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    void dispatch(Runnable drain) {
+        executor.execute(drain);
+    }
+
+    private void scheduleHeartbeat(SseSubscriber subscriber, long delayNanos) {
+        subscriber.heartbeatTimeout(heartbeatWheel.newTimeout(timeout -> {
+            if (subscriber.heartbeat(System.nanoTime(), idleTimeoutNanos, stallTimeoutNanos)) {
+                scheduleHeartbeat(subscriber, heartbeatIntervalNanos);
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * 구독을 바로 정리하고, 쓰기에 막혀 있을 수 있는 에미터 종료는 전송 스레드에서 합니다.
+     */
+    void disconnect(SseSubscriber subscriber, DisconnectReason reason) {
+        disconnects.get(reason).increment();
+        subscriber.closed();
+        dispatch(() -> subscriber.emitter().complete());
+    }
+
+    void unsubscribed() {
+        subscribers.decrementAndGet();
+    }
+
+    void recordSent(SseFrame frame) {
+        (frame.isHeartbeat() ? heartbeats : sent).increment();
+    }
+
+    void recordIdleReaped() {
+        idleReaped.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordFailed(SseFrame frame, Exception ex) {
+        failed.increment();
+        log.debug("SSE 전송 실패: event={}", frame.event(), ex);
+    }
+}
@@ -0,0 +1,96 @@
+package jack.mwukzibackened.common.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 한 번 직렬화해 모든 구독자에게 그대로 쓰는 SSE 이벤트 한 건.
+ * {@code id:}/{@code event:}/{@code data:} 줄까지 포함한 바이트를 들고 있어 구독자마다 메시지 컨버터를 다시 거치지 않습니다.
+ */
+public final class SseFrame {
+
+    private static final long NO_ID = -1;
+
+    /** 연결 확인용 주석 한 줄. 클라이언트 EventSource는 이벤트로 취급하지 않습니다. */
+    public static final SseFrame HEARTBEAT = new SseFrame(NO_ID, null, false, ":\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private final long id;
+    private final String event;
+    private final boolean collapsible;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> payload;
+    private final int size;
+
+    private SseFrame(long id, String event, boolean collapsible, byte[] bytes) {
+        this.id = id;
+        this.event = event;
+        this.collapsible = collapsible;
+        this.payload = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+        this.size = bytes.length;
+    }
+
+    /**
+     * @param data 한 줄짜리 데이터 (압축된 JSON처럼 줄바꿈이 없어야 합니다)
+     */
+    public static SseFrame of(String event, byte[] data) {
+        return of(NO_ID, event, data);
+    }
+
+    /**
+     * @param id 클라이언트가 재연결 때 Last-Event-ID로 돌려줄 이벤트 id
+     */
+    public static SseFrame of(long id, String event, byte[] data) {
+        return create(id, event, false, data);
+    }
+
+    /**
+     * 매번 전체 상태를 담는 이벤트. 같은 이벤트의 새 프레임이 대기열에 들어오면 아직 보내지 않은 이전 프레임은 버려집니다.
+     */
+    public static SseFrame collapsible(long id, String event, byte[] data) {
+        return create(id, event, true, data);
+    }
+
+    private static SseFrame create(long id, String event, boolean collapsible, byte[] data) {
+        String idLine = id == NO_ID ? "" : "id:" + id + "\n";
+        byte[] head = (idLine + "event:" + event + "\ndata:").getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[head.length + data.length + 2];
+        System.arraycopy(head, 0, bytes, 0, head.length);
+        System.arraycopy(data, 0, bytes, head.length, data.length);
+        bytes[bytes.length - 2] = '\n';
+        bytes[bytes.length - 1] = '\n';
+        return new SseFrame(id, event, collapsible, bytes);
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String event() {
+        return event;
+    }
+
+    public boolean isHeartbeat() {
+        return this == HEARTBEAT;
+    }
+
+    public boolean isCollapsible() {
+        return collapsible;
+    }
+
+    /**
+     * 대기열이 찼을 때 버려도 되는 프레임인지. 하트비트와 전체 상태 이벤트만 해당합니다.
+     */
+    boolean isDroppable() {
+        return collapsible || isHeartbeat();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> payload() {
+        return payload;
+    }
+}
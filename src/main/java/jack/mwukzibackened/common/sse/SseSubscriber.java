@@ -0,0 +1,224 @@
+package jack.mwukzibackened.common.sse;
+
+import io.netty.util.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 구독자 한 명의 전송 대기열. 프레임은 {@link SseFanout}의 전송 스레드에서 한 번에 한 작업만 꺼내 보내므로 순서가 유지됩니다.
+ * 전체 상태를 담은 프레임({@link SseFrame#isCollapsible()})은 같은 이벤트의 새 프레임이 들어오면 대기 중인 이전 것을 버립니다.
+ * 그래도 대기열이 가득 차면 {@link SseFanout.OverflowPolicy}에 따라 버려도 되는 프레임 중 가장 오래된 것을 버리거나 연결을 끊습니다.
+ * 변경분이나 추천처럼 버리면 상태가 어긋나는 프레임만 남아 있으면 정책과 관계없이 연결을 끊습니다.
+ * 클라이언트는 재연결하며 놓친 이벤트나 최신 상태를 다시 받습니다.
+ */
+public final class SseSubscriber {
+
+    private final SseEmitter emitter;
+    private final SseFanout fanout;
+    private final ArrayDeque<SseFrame> queue;
+    private final int capacity;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Consumer<SseSubscriber> onClose;
+    private boolean completeAfterDrain;
+    private boolean released;
+    private volatile boolean closed;
+    private volatile Timeout heartbeat;
+    // 하트비트를 뺀 마지막 이벤트 시각. idle 판정에 씁니다.
+    private volatile long lastEventNanos;
+    // 대기열이 비어 있지 않은 동안 마지막으로 전송이 진척된 시각. 전송이 멈춘 연결 판정에 씁니다.
+    private volatile long progressNanos;
+
+    SseSubscriber(SseEmitter emitter, SseFanout fanout, int capacity, Consumer<SseSubscriber> onClose) {
+        this.emitter = emitter;
+        this.fanout = fanout;
+        this.capacity = capacity;
+        this.onClose = onClose;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 16));
+        this.lastEventNanos = System.nanoTime();
+        this.progressNanos = lastEventNanos;
+        emitter.onCompletion(this::closed);
+        emitter.onTimeout(this::closed);
+        emitter.onError(ex -> closed());
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void send(SseFrame frame) {
+        boolean overflowDisconnect = false;
+        synchronized (queue) {
+            if (closed || completeAfterDrain) {
+                return;
+            }
+            if (frame.isCollapsible()) {
+                collapse(frame.event());
+            }
+            if (queue.size() >= capacity) {
+                if (frame.isHeartbeat()) {
+                    return;
+                }
+                overflowDisconnect = fanout.overflowPolicy() == SseFanout.OverflowPolicy.DISCONNECT
+                        || !dropOldestDroppable();
+            }
+            if (!overflowDisconnect) {
+                if (queue.isEmpty()) {
+                    progressNanos = System.nanoTime();
+                }
+                queue.addLast(frame);
+                if (!frame.isHeartbeat()) {
+                    lastEventNanos = System.nanoTime();
+                }
+            }
+        }
+        if (overflowDisconnect) {
+            fanout.disconnect(this, SseFanout.DisconnectReason.OVERFLOW);
+            return;
+        }
+        schedule();
+    }
+
+    /**
+     * 같은 이벤트의 새 전체 상태로 대체되는, 아직 보내지 않은 프레임을 버립니다. queue 잠금 안에서 부릅니다.
+     */
+    private void collapse(String event) {
+        Iterator<SseFrame> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            SseFrame queued = iterator.next();
+            if (queued.isCollapsible() && queued.event().equals(event)) {
+                iterator.remove();
+                fanout.recordDropped();
+            }
+        }
+    }
+
+    /**
+     * queue 잠금 안에서 부릅니다.
+     *
+     * @return 버릴 수 있는 프레임이 없었으면 false
+     */
+    private boolean dropOldestDroppable() {
+        Iterator<SseFrame> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isDroppable()) {
+                iterator.remove();
+                fanout.recordDropped();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이미 넣은 프레임을 모두 보낸 뒤 연결을 닫습니다.
+     */
+    public void completeAfterDrain() {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            completeAfterDrain = true;
+        }
+        schedule();
+    }
+
+    /**
+     * 타이밍 휠에서 주기적으로 불립니다. 블로킹 없이 상태만 보고 하트비트를 넣거나 연결 정리를 요청합니다.
+     *
+     * @return 다음 하트비트를 예약해야 하면 true
+     */
+    boolean heartbeat(long now, long idleTimeoutNanos, long stallTimeoutNanos) {
+        if (closed) {
+            return false;
+        }
+        boolean pending;
+        synchronized (queue) {
+            pending = !queue.isEmpty();
+        }
+        if (pending && now - progressNanos > stallTimeoutNanos) {
+            fanout.disconnect(this, SseFanout.DisconnectReason.STALLED);
+            return false;
+        }
+        if (idleTimeoutNanos > 0 && now - lastEventNanos > idleTimeoutNanos) {
+            fanout.recordIdleReaped();
+            completeAfterDrain();
+            return false;
+        }
+        if (!pending) {
+            // 쓰기가 실패하면 drain에서 연결이 정리됩니다.
+            send(SseFrame.HEARTBEAT);
+        }
+        return true;
+    }
+
+    void heartbeatTimeout(Timeout timeout) {
+        this.heartbeat = timeout;
+        if (closed) {
+            timeout.cancel();
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            fanout.dispatch(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SseFrame frame;
+            boolean complete;
+            synchronized (queue) {
+                frame = queue.pollFirst();
+                complete = frame == null && completeAfterDrain && !closed;
+                if (frame == null) {
+                    scheduled.set(false);
+                }
+            }
+            if (frame == null) {
+                if (complete) {
+                    emitter.complete();
+                }
+                return;
+            }
+            if (closed) {
+                continue;
+            }
+            try {
+                emitter.send(frame.payload());
+                progressNanos = System.nanoTime();
+                fanout.recordSent(frame);
+            } catch (Exception ex) {
+                // IOException 외 IllegalStateException 등도 발생할 수 있어 안전하게 정리합니다.
+                fanout.recordFailed(frame, ex);
+                emitter.completeWithError(ex);
+                closed();
+            }
+        }
+    }
+
+    void closed() {
+        synchronized (queue) {
+            closed = true;
+            queue.clear();
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        Timeout timeout = heartbeat;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        fanout.unsubscribed();
+        onClose.accept(this);
+    }
+}
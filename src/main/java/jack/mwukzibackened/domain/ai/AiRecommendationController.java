@@ -8,6 +8,7 @@ import jack.mwukzibackened.domain.ai.dto.MenuRecommendationRequest;
 import jack.mwukzibackened.domain.ai.dto.MenuRecommendationResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -27,9 +29,12 @@ public class AiRecommendationController {
 
     private final AiRecommendationService aiRecommendationService;
 
+    @Value("${external-api.non-blocking:false}")
+    private boolean externalApiNonBlocking;
+
     @PostMapping("/{roomId}/ai/recommend-menu")
     @Operation(summary = "메뉴 추천", description = "참여자 취향을 기반으로 GPT 메뉴 추천을 생성합니다.")
-    public ResponseEntity<MenuRecommendationResponse> recommendMenu(
+    public Mono<ResponseEntity<MenuRecommendationResponse>> recommendMenu(
             @PathVariable UUID roomId,
             @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody MenuRecommendationRequest request
@@ -37,12 +42,16 @@ public class AiRecommendationController {
         if (principal == null) {
             throw new UnauthorizedException("방장 인증이 필요합니다");
         }
+        if (externalApiNonBlocking) {
+            return aiRecommendationService.recommendMenusAsync(roomId, principal.getUserId(), request)
+                    .map(ResponseEntity::ok);
+        }
         MenuRecommendationResponse response = aiRecommendationService.recommendMenus(
                 roomId,
                 principal.getUserId(),
                 request
         );
-        return ResponseEntity.ok(response);
+        return Mono.just(ResponseEntity.ok(response));
     }
 
     @GetMapping("/{roomId}/ai/recommend-menu")
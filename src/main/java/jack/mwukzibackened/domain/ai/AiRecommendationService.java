@@ -4,19 +4,23 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jack.mwukzibackened.common.exception.BadRequestException;
 import jack.mwukzibackened.common.exception.NotFoundException;
+import jack.mwukzibackened.common.exception.OpenAiApiException;
 import jack.mwukzibackened.common.exception.UnauthorizedException;
+import jack.mwukzibackened.common.http.ExternalWebClients;
+import jack.mwukzibackened.common.http.UpstreamGuards;
 import jack.mwukzibackened.domain.ai.dto.MenuRecommendationRequest;
 import jack.mwukzibackened.domain.ai.dto.MenuRecommendationResponse;
-import jack.mwukzibackened.domain.room.Room;
-import jack.mwukzibackened.domain.room.RoomRepository;
-import jack.mwukzibackened.domain.room.RoomSseService;
+import jack.mwukzibackened.domain.room.RoomCache;
+import jack.mwukzibackened.domain.room.RoomEvent;
+import jack.mwukzibackened.domain.room.RoomEventBus;
+import jack.mwukzibackened.domain.room.RoomSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -34,10 +38,11 @@ public class AiRecommendationService {
     private static final Logger log = LoggerFactory.getLogger(AiRecommendationService.class);
     private static final Duration OPENAI_TIMEOUT = Duration.ofSeconds(15);
 
-    private final RoomRepository roomRepository;
-    private final RoomSseService roomSseService;
+    private final RoomCache roomCache;
+    private final RoomEventBus roomEventBus;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final WebClient webClient = WebClient.builder().build();
+    private final ExternalWebClients externalWebClients;
+    private final UpstreamGuards upstreamGuards;
     private final ConcurrentHashMap<UUID, MenuRecommendationResponse> latestRecommendations = new ConcurrentHashMap<>();
 
     @Value("${openai.api-key:}")
@@ -54,9 +59,19 @@ public class AiRecommendationService {
             UUID requesterUserId,
             MenuRecommendationRequest request
     ) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
-        if (!room.getHost().getId().equals(requesterUserId)) {
+        return recommendMenusAsync(roomId, requesterUserId, request).block();
+    }
+
+    /**
+     * 방장 검증은 호출 스레드에서 끝내고, OpenAI 호출부터는 요청 스레드를 점유하지 않는 Mono로 반환합니다.
+     */
+    public Mono<MenuRecommendationResponse> recommendMenusAsync(
+            UUID roomId,
+            UUID requesterUserId,
+            MenuRecommendationRequest request
+    ) {
+        RoomSnapshot room = roomCache.getById(roomId);
+        if (!room.isHost(requesterUserId)) {
             throw new UnauthorizedException("방장만 추천을 시작할 수 있습니다");
         }
         if (openAiApiKey == null || openAiApiKey.isBlank()) {
@@ -65,29 +80,38 @@ public class AiRecommendationService {
 
         int count = request.getCount() == null ? 5 : Math.max(1, Math.min(request.getCount(), 10));
         String prompt = buildPrompt(request.getParticipants(), count);
-        String content = callOpenAi(prompt);
-        MenuRecommendationResponse response = parseRecommendation(content);
-
-        log.info("[AI 추천] roomId={}, participants={}, summary={}, commonGround={}, compromise={}",
-                roomId,
-                request.getParticipants().size(),
-                response.getSummary(),
-                response.getCommonGround(),
-                response.getCompromise());
-        for (int i = 0; i < response.getMenus().size(); i++) {
-            MenuRecommendationResponse.MenuItem item = response.getMenus().get(i);
-            log.info("[AI 추천] {}. {} - {}", i + 1, item.getName(), item.getReason());
-        }
-        latestRecommendations.put(roomId, response);
-        roomSseService.sendRecommendation(room.getInviteCode(), response);
+        return callOpenAi(prompt)
+                .map(this::parseRecommendation)
+                .doOnNext(response -> {
+                    log.info("[AI 추천] roomId={}, participants={}, summary={}, commonGround={}, compromise={}",
+                            roomId,
+                            request.getParticipants().size(),
+                            response.getSummary(),
+                            response.getCommonGround(),
+                            response.getCompromise());
+                    for (int i = 0; i < response.getMenus().size(); i++) {
+                        MenuRecommendationResponse.MenuItem item = response.getMenus().get(i);
+                        log.info("[AI 추천] {}. {} - {}", i + 1, item.getName(), item.getReason());
+                    }
+                    roomEventBus.publish(RoomEvent.recommendation(room, response));
+                });
+    }
 
-        return response;
+    /**
+     * 최신 추천은 이벤트 버스로 받아 저장하므로, 어느 인스턴스에서 만든 추천이든 모든 인스턴스에서 조회됩니다.
+     */
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        switch (event.type()) {
+            case RECOMMENDATION -> latestRecommendations.put(event.roomId(), event.recommendation());
+            case ROOM_CLOSED -> latestRecommendations.remove(event.roomId());
+            default -> {
+            }
+        }
     }
 
     public MenuRecommendationResponse getLatestRecommendation(UUID roomId) {
-        if (!roomRepository.existsById(roomId)) {
-            throw new NotFoundException("방을 찾을 수 없습니다");
-        }
+        roomCache.getById(roomId);
         MenuRecommendationResponse response = latestRecommendations.get(roomId);
         if (response == null) {
             throw new NotFoundException("아직 생성된 추천 결과가 없습니다");
@@ -138,49 +162,63 @@ public class AiRecommendationService {
                 """.formatted(count, preferences);
     }
 
-    private String callOpenAi(String prompt) {
-        try {
-            Map<String, Object> requestBody = new LinkedHashMap<>();
-            requestBody.put("model", openAiModel);
-            requestBody.put("temperature", 0.7);
-            requestBody.put("response_format", Map.of("type", "json_object"));
-            requestBody.put("messages", List.of(
-                    Map.of("role", "system", "content", "너는 메뉴 추천 도우미다."),
-                    Map.of("role", "user", "content", prompt)
-            ));
-
-            String response = webClient.post()
-                    .uri(openAiBaseUrl + "/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
-                            .defaultIfEmpty("")
-                            .flatMap(body -> {
-                                log.warn("OpenAI 호출 실패: status={}, body={}", clientResponse.statusCode(), body);
-                                return Mono.error(new BadRequestException("GPT 추천 생성에 실패했습니다"));
-                            }))
-                    .bodyToMono(String.class)
-                    .timeout(OPENAI_TIMEOUT)
-                    .block();
-
-            if (response == null || response.isBlank()) {
-                throw new BadRequestException("GPT 응답이 비어 있습니다");
-            }
+    private Mono<String> callOpenAi(String prompt) {
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("model", openAiModel);
+        requestBody.put("temperature", 0.7);
+        requestBody.put("response_format", Map.of("type", "json_object"));
+        requestBody.put("messages", List.of(
+                Map.of("role", "system", "content", "너는 메뉴 추천 도우미다."),
+                Map.of("role", "user", "content", prompt)
+        ));
 
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode contentNode = root.path("choices").path(0).path("message").path("content");
-            if (contentNode.isMissingNode() || contentNode.asText().isBlank()) {
-                throw new BadRequestException("GPT 응답 형식이 올바르지 않습니다");
-            }
-            return contentNode.asText();
-        } catch (BadRequestException ex) {
-            throw ex;
+        return externalWebClients.openAi().post()
+                .uri(openAiBaseUrl + "/v1/chat/completions")
+                .header("Authorization", "Bearer " + openAiApiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .flatMap(body -> {
+                            log.warn("OpenAI 호출 실패: status={}, body={}", clientResponse.statusCode(), body);
+                            // 429/5xx는 OpenAI 쪽 장애로 보고 차단기 실패로 셉니다.
+                            int status = clientResponse.statusCode().value();
+                            if (status == 429 || status >= 500) {
+                                return Mono.error(new OpenAiApiException("OpenAI " + status + " 응답"));
+                            }
+                            return Mono.error(new BadRequestException("GPT 추천 생성에 실패했습니다"));
+                        }))
+                .bodyToMono(String.class)
+                .timeout(OPENAI_TIMEOUT)
+                .transform(call -> upstreamGuards.openAi().protect(
+                        call,
+                        ex -> !(ex instanceof BadRequestException),
+                        reason -> new OpenAiApiException("OpenAI 호출 보호로 거절되었습니다: " + reason)))
+                .switchIfEmpty(Mono.error(new BadRequestException("GPT 응답이 비어 있습니다")))
+                .map(this::extractMessageContent)
+                .onErrorMap(ex -> !(ex instanceof BadRequestException || ex instanceof OpenAiApiException), ex -> {
+                    log.error("GPT 추천 호출 실패", ex);
+                    return new BadRequestException("GPT 추천 생성 중 오류가 발생했습니다");
+                });
+    }
+
+    private String extractMessageContent(String response) {
+        if (response.isBlank()) {
+            throw new BadRequestException("GPT 응답이 비어 있습니다");
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(response);
         } catch (Exception ex) {
-            log.error("GPT 추천 호출 실패", ex);
-            throw new BadRequestException("GPT 추천 생성 중 오류가 발생했습니다");
+            throw new IllegalStateException("GPT 응답 JSON 파싱 실패", ex);
+        }
+        JsonNode contentNode = root.path("choices").path(0).path("message").path("content");
+        if (contentNode.isMissingNode() || contentNode.asText().isBlank()) {
+            throw new BadRequestException("GPT 응답 형식이 올바르지 않습니다");
         }
+        return contentNode.asText();
     }
 
     private MenuRecommendationResponse parseRecommendation(String content) {
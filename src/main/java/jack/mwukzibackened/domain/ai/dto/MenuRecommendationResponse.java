@@ -2,11 +2,13 @@ package jack.mwukzibackened.domain.ai.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class MenuRecommendationResponse {
     private String summary;
     private String commonGround;
@@ -15,6 +17,7 @@ public class MenuRecommendationResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class MenuItem {
         private String name;
         private String reason;
@@ -10,9 +10,11 @@ import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -21,6 +23,9 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final AuthService authService;
+
+    @Value("${external-api.non-blocking:false}")
+    private boolean externalApiNonBlocking;
     
     /**
      * POST /api/v1/auth/kakao
@@ -28,11 +33,14 @@ public class AuthController {
      */
     @PostMapping("/kakao")
     @Operation(summary = "카카오 로그인", description = "카카오 Access Token으로 로그인하고 JWT를 발급합니다.")
-    public ResponseEntity<LoginResponse> loginWithKakao(
+    public Mono<ResponseEntity<LoginResponse>> loginWithKakao(
             @Valid @RequestBody KakaoLoginRequest request
     ) {
+        if (externalApiNonBlocking) {
+            return authService.loginWithKakaoAsync(request.getKakaoAccessToken()).map(ResponseEntity::ok);
+        }
         LoginResponse response = authService.loginWithKakao(request.getKakaoAccessToken());
-        return ResponseEntity.ok(response);
+        return Mono.just(ResponseEntity.ok(response));
     }
     
     /**
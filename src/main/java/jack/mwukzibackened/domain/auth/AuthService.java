@@ -12,6 +12,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +26,7 @@ public class AuthService {
     private final KakaoApiClient kakaoApiClient;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * 카카오 Access Token으로 로그인
@@ -34,7 +38,20 @@ public class AuthService {
     public LoginResponse loginWithKakao(String kakaoAccessToken) {
         // 1. 카카오 사용자 정보 조회
         KakaoUserInfo kakaoUser = kakaoApiClient.getUserInfo(kakaoAccessToken);
-        
+        return upsertUserAndIssueToken(kakaoUser);
+    }
+
+    /**
+     * 카카오 Access Token으로 로그인 (논블로킹)
+     * 카카오 호출 동안 요청 스레드를 점유하지 않고, DB upsert만 별도 스레드의 트랜잭션에서 처리합니다.
+     */
+    public Mono<LoginResponse> loginWithKakaoAsync(String kakaoAccessToken) {
+        return kakaoApiClient.getUserInfoAsync(kakaoAccessToken)
+                .publishOn(Schedulers.boundedElastic())
+                .map(kakaoUser -> transactionTemplate.execute(status -> upsertUserAndIssueToken(kakaoUser)));
+    }
+
+    private LoginResponse upsertUserAndIssueToken(KakaoUserInfo kakaoUser) {
         // 2. DB에서 사용자 조회 또는 생성
         User user;
         try {
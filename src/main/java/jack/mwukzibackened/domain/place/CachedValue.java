@@ -0,0 +1,16 @@
+package jack.mwukzibackened.domain.place;
+
+/**
+ * 캐시/카탈로그에서 꺼낸 값과 그 값이 카카오에서 받아진 뒤 지난 시간.
+ * fetchedNow는 캐시/카탈로그를 거치지 않고 이번 요청의 조건(중심, 반경)으로 카카오에서 바로 받은 값인지를 나타냅니다.
+ */
+record CachedValue<T>(T value, long ageSeconds, boolean stale, boolean fetchedNow) {
+
+    CachedValue(T value, long ageSeconds, boolean stale) {
+        this(value, ageSeconds, stale, false);
+    }
+
+    static <T> CachedValue<T> fresh(T value) {
+        return new CachedValue<>(value, 0, false, true);
+    }
+}
@@ -0,0 +1,52 @@
+package jack.mwukzibackened.domain.place;
+
+/**
+ * 위경도를 geohash 문자열로 인코딩합니다. 검색 캐시의 중심 좌표 양자화에 사용합니다.
+ */
+final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90.0;
+        double maxLat = 90.0;
+        double minLng = -180.0;
+        double maxLng = 180.0;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lngBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (lngBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            lngBit = !lngBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+}
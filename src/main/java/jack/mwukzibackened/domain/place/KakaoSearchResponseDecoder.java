@@ -0,0 +1,228 @@
+package jack.mwukzibackened.domain.place;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오 로컬/이미지 검색 응답을 Jackson 스트리밍 파서로 바로 읽습니다.
+ * 응답 전체를 String/JsonNode 트리로 만들지 않고, 필요한 필드만 꺼낸 뒤 limit 개수를 채우면 읽기를 멈춥니다.
+ */
+@Component
+public class KakaoSearchResponseDecoder {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public List<PlaceSearchResponse.PlaceItem> decodePlaces(
+            InputStream in,
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int limit
+    ) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (!moveToDocuments(parser)) {
+                return List.of();
+            }
+            List<PlaceSearchResponse.PlaceItem> items = new ArrayList<>(Math.max(limit, 0));
+            while (items.size() < limit && parser.nextToken() == JsonToken.START_OBJECT) {
+                items.add(readPlace(parser, keyword, centerLat, centerLng));
+            }
+            return items;
+        }
+    }
+
+    /**
+     * 페이지 조회용: documents와 함께 meta.is_end를 읽습니다.
+     * meta가 documents 뒤에 올 수도 있으므로 limit을 채운 뒤에도 남은 문서를 건너뛰며 끝까지 읽습니다.
+     */
+    public PlacePage decodePlacePage(
+            InputStream in,
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int limit
+    ) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            List<PlaceSearchResponse.PlaceItem> items = new ArrayList<>(Math.max(limit, 0));
+            boolean end = true;
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new PlacePage(items, end);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("documents".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        if (items.size() < limit) {
+                            items.add(readPlace(parser, keyword, centerLat, centerLng));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String metaField = parser.currentName();
+                        parser.nextToken();
+                        if ("is_end".equals(metaField)) {
+                            end = parser.getValueAsBoolean(true);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new PlacePage(items, end);
+        }
+    }
+
+    public List<String> decodeImageUrls(InputStream in, int limit) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (!moveToDocuments(parser)) {
+                return List.of();
+            }
+            List<String> urls = new ArrayList<>(Math.max(limit, 0));
+            while (urls.size() < limit && parser.nextToken() == JsonToken.START_OBJECT) {
+                String imageUrl = "";
+                String thumbnailUrl = "";
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "image_url" -> imageUrl = parser.getValueAsString("");
+                        case "thumbnail_url" -> thumbnailUrl = parser.getValueAsString("");
+                        default -> parser.skipChildren();
+                    }
+                }
+                String url = normalizeImageUrl(imageUrl);
+                if (url.isBlank()) {
+                    url = normalizeImageUrl(thumbnailUrl);
+                }
+                if (!url.isBlank() && !urls.contains(url)) {
+                    urls.add(url);
+                }
+            }
+            return urls;
+        }
+    }
+
+    static String normalizeImageUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+        String normalized = url.trim();
+        if (normalized.startsWith("//")) {
+            return "https:" + normalized;
+        }
+        if (normalized.startsWith("http://")) {
+            return "https://" + normalized.substring("http://".length());
+        }
+        return normalized;
+    }
+
+    /**
+     * 최상위 객체의 documents 배열 시작 위치로 이동합니다. 다른 최상위 필드는 통째로 건너뜁니다.
+     */
+    private boolean moveToDocuments(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("documents".equals(field)) {
+                return value == JsonToken.START_ARRAY;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private PlaceSearchResponse.PlaceItem readPlace(
+            JsonParser parser,
+            String keyword,
+            double centerLat,
+            double centerLng
+    ) throws IOException {
+        String id = "";
+        String name = "";
+        String category = "";
+        String address = "";
+        String roadAddress = "";
+        String phone = "";
+        String placeUrl = "";
+        Double lat = null;
+        Double lng = null;
+        Integer distanceMeters = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString("");
+                case "place_name" -> name = parser.getValueAsString("");
+                case "category_name" -> category = parser.getValueAsString("");
+                case "address_name" -> address = parser.getValueAsString("");
+                case "road_address_name" -> roadAddress = parser.getValueAsString("");
+                case "phone" -> phone = parser.getValueAsString("");
+                case "place_url" -> placeUrl = parser.getValueAsString("");
+                case "y" -> lat = parseDoubleOrNull(parser.getValueAsString(null));
+                case "x" -> lng = parseDoubleOrNull(parser.getValueAsString(null));
+                case "distance" -> distanceMeters = parseIntOrNull(parser.getValueAsString(null));
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (distanceMeters == null && lat != null && lng != null) {
+            distanceMeters = GeoDistance.estimateMeters(centerLat, centerLng, lat, lng);
+        }
+        return PlaceSearchResponse.PlaceItem.builder()
+                .provider("kakao")
+                .providerPlaceId(id)
+                .name(name)
+                .category(category)
+                .address(address)
+                .roadAddress(roadAddress)
+                .phone(phone)
+                .distanceMeters(distanceMeters)
+                .latitude(lat)
+                .longitude(lng)
+                .placeUrl(placeUrl)
+                .sourceKeyword(keyword)
+                .build();
+    }
+
+    private Integer parseIntOrNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private Double parseDoubleOrNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    public record PlacePage(List<PlaceSearchResponse.PlaceItem> places, boolean end) {
+    }
+}
@@ -0,0 +1,69 @@
+package jack.mwukzibackened.domain.place;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 카카오 키워드 검색(키워드, 중심 좌표, 반경, 개수가 모두 같은 경우)이 동시에 들어오면
+ * 먼저 온 호출 하나만 카카오로 보내고 나머지는 그 결과를 함께 받습니다.
+ * 호출이 끝나면(성공/실패 모두) 항목을 지우므로 결과를 보관하지는 않습니다. 보관은 PlaceSearchCache의 역할입니다.
+ */
+@Component
+public class KeywordSearchSingleFlight {
+
+    private final ConcurrentHashMap<Key, Mono<List<PlaceSearchResponse.PlaceItem>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public KeywordSearchSingleFlight(MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("place.search.single-flight")
+                .tag("role", "leader")
+                .description("카카오로 실제 전송된 키워드 검색 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("place.search.single-flight")
+                .tag("role", "coalesced")
+                .description("진행 중인 동일 검색에 합류한 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("place.search.single-flight.in-flight", inFlight, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    public Mono<List<PlaceSearchResponse.PlaceItem>> execute(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int size,
+            Supplier<Mono<List<PlaceSearchResponse.PlaceItem>>> call
+    ) {
+        return Mono.defer(() -> {
+            Key key = new Key(keyword, centerLat, centerLng, radiusMeters, size);
+            AtomicReference<Mono<List<PlaceSearchResponse.PlaceItem>>> self = new AtomicReference<>();
+            // 구독자가 먼저 끊겨도 합류한 다른 호출을 위해 원본 호출은 끝까지 진행합니다(cache()는 원본을 취소하지 않음).
+            Mono<List<PlaceSearchResponse.PlaceItem>> shared = call.get()
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(shared);
+
+            Mono<List<PlaceSearchResponse.PlaceItem>> existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+            leaders.increment();
+            return shared;
+        });
+    }
+
+    private record Key(String keyword, double centerLat, double centerLng, int radiusMeters, int size) {
+    }
+}
@@ -0,0 +1,211 @@
+package jack.mwukzibackened.domain.place;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jack.mwukzibackened.common.http.ExternalWebClients;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 카카오 장소 페이지에서 og:image를 추출합니다.
+ * 본문을 조각 단위로 읽다가 {@code </head>}를 만나거나 max-bytes에 도달하면 나머지 다운로드를 취소하고,
+ * 그때까지 받은 부분의 {@code <meta>} 태그만 훑습니다.
+ * 이미지가 없는 페이지도 결과("")를 URL별로 캐시해 상세 조회마다 다시 받지 않습니다.
+ */
+@Component
+@Slf4j
+public class OgImageExtractor {
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(4);
+    private static final String HEAD_END = "</head";
+
+    private final ExternalWebClients externalWebClients;
+    private final Cache<String, String> results;
+    private final int maxBytes;
+
+    public OgImageExtractor(
+            ExternalWebClients externalWebClients,
+            MeterRegistry meterRegistry,
+            @Value("${place.og-image.max-bytes:65536}") int maxBytes,
+            @Value("${place.og-image.cache-ttl:6h}") Duration cacheTtl,
+            @Value("${place.og-image.cache-max-size:5000}") long cacheMaxSize
+    ) {
+        this.externalWebClients = externalWebClients;
+        this.maxBytes = maxBytes;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "place.og-image");
+    }
+
+    /**
+     * og:image URL을 반환합니다. 없거나 조회에 실패하면 빈 문자열입니다.
+     */
+    public Mono<String> extract(String placeUrl) {
+        String cached = results.getIfPresent(placeUrl);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        HeadBuffer head = new HeadBuffer(maxBytes);
+        return externalWebClients.kakaoDapi().get()
+                .uri(placeUrl)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .map(buffer -> {
+                    try {
+                        return head.append(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .takeUntil(complete -> complete)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .then(Mono.fromCallable(() -> findOgImage(head.text())))
+                .timeout(FETCH_TIMEOUT)
+                .doOnNext(imageUrl -> results.put(placeUrl, imageUrl))
+                .onErrorResume(ex -> {
+                    // 네트워크 오류는 일시적일 수 있어 캐시하지 않습니다.
+                    log.debug("place og:image 조회 실패: url={}", placeUrl);
+                    return Mono.just("");
+                });
+    }
+
+    static String findOgImage(String html) {
+        int from = 0;
+        while ((from = indexOfIgnoreCase(html, "<meta", from)) >= 0) {
+            int end = html.indexOf('>', from);
+            if (end < 0) {
+                break;
+            }
+            String imageUrl = readOgImageContent(html, from + "<meta".length(), end);
+            if (imageUrl != null) {
+                return KakaoSearchResponseDecoder.normalizeImageUrl(imageUrl);
+            }
+            from = end + 1;
+        }
+        return "";
+    }
+
+    /**
+     * meta 태그 속성을 한 번 훑어 property(또는 name)가 og:image인 경우 content 값을 돌려줍니다.
+     */
+    private static String readOgImageContent(String html, int start, int end) {
+        boolean ogImage = false;
+        String content = null;
+        int i = start;
+        while (i < end) {
+            while (i < end && (Character.isWhitespace(html.charAt(i)) || html.charAt(i) == '/')) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < end && html.charAt(i) != '=' && !Character.isWhitespace(html.charAt(i)) && html.charAt(i) != '/') {
+                i++;
+            }
+            String name = html.substring(nameStart, i);
+            if (name.isEmpty()) {
+                i++;
+                continue;
+            }
+            String value = "";
+            if (i < end && html.charAt(i) == '=') {
+                i++;
+                if (i < end && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                    char quote = html.charAt(i++);
+                    int valueStart = i;
+                    while (i < end && html.charAt(i) != quote) {
+                        i++;
+                    }
+                    value = html.substring(valueStart, i);
+                    i++;
+                } else {
+                    int valueStart = i;
+                    while (i < end && !Character.isWhitespace(html.charAt(i))) {
+                        i++;
+                    }
+                    value = html.substring(valueStart, i);
+                }
+            }
+            if (name.equalsIgnoreCase("property") || name.equalsIgnoreCase("name")) {
+                ogImage = ogImage || value.trim().equalsIgnoreCase("og:image");
+            } else if (name.equalsIgnoreCase("content")) {
+                content = value;
+            }
+        }
+        return ogImage && content != null && !content.isBlank() ? content : null;
+    }
+
+    private static int indexOfIgnoreCase(String text, String needle, int from) {
+        int last = text.length() - needle.length();
+        for (int i = Math.max(from, 0); i <= last; i++) {
+            if (text.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 받은 본문을 max-bytes까지만 모으고, {@code </head>}가 나타났는지 새로 들어온 구간만 확인합니다.
+     */
+    private static final class HeadBuffer {
+
+        private final int maxBytes;
+        private byte[] data = new byte[4096];
+        private int size;
+        private boolean complete;
+
+        private HeadBuffer(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean append(DataBuffer buffer) {
+            if (complete) {
+                return true;
+            }
+            int length = Math.min(buffer.readableByteCount(), maxBytes - size);
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, Math.min(maxBytes, Math.max(data.length * 2, size + length)));
+            }
+            buffer.read(data, size, length);
+
+            int scanFrom = Math.max(0, size - HEAD_END.length());
+            size += length;
+            complete = containsHeadEnd(scanFrom) || size >= maxBytes;
+            return complete;
+        }
+
+        private boolean containsHeadEnd(int from) {
+            int last = size - HEAD_END.length();
+            for (int i = from; i <= last; i++) {
+                boolean matched = true;
+                for (int j = 0; j < HEAD_END.length(); j++) {
+                    if (Character.toLowerCase((char) data[i + j]) != HEAD_END.charAt(j)) {
+                        matched = false;
+                        break;
+                    }
+                }
+                if (matched) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String text() {
+            return new String(data, 0, size, StandardCharsets.UTF_8);
+        }
+    }
+}
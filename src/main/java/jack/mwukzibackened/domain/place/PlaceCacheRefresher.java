@@ -0,0 +1,69 @@
+package jack.mwukzibackened.domain.place;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * soft TTL이 지난 캐시 항목의 백그라운드 갱신.
+ * 갱신 자체는 논블로킹 호출이므로 스레드 풀 대신 동시 갱신 수를 세마포어로 제한하고, 같은 키는 한 번만 갱신합니다.
+ * 한도가 차면 이번 갱신은 건너뛰며, 다음 조회 때 다시 시도합니다.
+ */
+@Component
+@Slf4j
+public class PlaceCacheRefresher {
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final Counter started;
+    private final Counter failed;
+    private final Counter skipped;
+
+    public PlaceCacheRefresher(
+            MeterRegistry meterRegistry,
+            @Value("${place.cache-refresh.max-concurrent:16}") int maxConcurrent
+    ) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.started = meterRegistry.counter("place.cache.refresh", "result", "started");
+        this.failed = meterRegistry.counter("place.cache.refresh", "result", "failed");
+        this.skipped = meterRegistry.counter("place.cache.refresh", "result", "skipped");
+        Gauge.builder("place.cache.refresh.in-flight", refreshing, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * refresh는 성공 시 스스로 캐시에 값을 넣어야 합니다. 실패하면 기존 값이 hard TTL까지 계속 쓰입니다.
+     */
+    void refresh(Object key, Supplier<Mono<?>> refresh) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            refreshing.remove(key);
+            skipped.increment();
+            return;
+        }
+        started.increment();
+        Mono.defer(refresh)
+                .doFinally(signal -> {
+                    permits.release();
+                    refreshing.remove(key);
+                })
+                .subscribe(
+                        value -> {
+                        },
+                        ex -> {
+                            failed.increment();
+                            log.debug("캐시 백그라운드 갱신 실패: key={}, reason={}", key, ex.getMessage());
+                        }
+                );
+    }
+}
@@ -0,0 +1,265 @@
+package jack.mwukzibackened.domain.place;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 검색 결과로 채워지는 장소 카탈로그.
+ * 키워드별로 "어느 중심에서 몇 m까지 카카오 결과를 전부 받아 두었는지(coverage)"를 기록해 두고,
+ * 요청 반경이 신선한 coverage 안에 완전히 들어올 때만 메모리 인덱스에서 바로 응답합니다.
+ * DB 저장은 별도 스레드에서 묶어서 처리하며, 기동 시 신선한 장소만 인덱스로 다시 올립니다.
+ * 인덱스는 신선도가 지난 장소와 max-entries를 넘는 오래된 장소를 같은 스레드에서 주기적으로 덜어 냅니다.
+ */
+@Component
+@Slf4j
+public class PlaceCatalog {
+
+    private static final int MAX_COVERAGES_PER_KEYWORD = 64;
+    private static final long TRIM_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final PlaceCatalogStore placeCatalogStore;
+    private final PlaceCatalogIndex index = new PlaceCatalogIndex();
+    private final Cache<String, ConcurrentLinkedDeque<Coverage>> coverages;
+    private final ThreadPoolExecutor persistExecutor;
+    private final Counter hits;
+    private final Counter misses;
+    private final boolean enabled;
+    private final Duration freshness;
+    private final int maxEntries;
+    private final AtomicLong lastTrimNanos = new AtomicLong(System.nanoTime());
+    private final AtomicBoolean trimScheduled = new AtomicBoolean();
+    private final Runnable trimTask = this::trim;
+
+    public PlaceCatalog(
+            PlaceCatalogStore placeCatalogStore,
+            MeterRegistry meterRegistry,
+            @Value("${place.catalog.enabled:true}") boolean enabled,
+            @Value("${place.catalog.freshness:24h}") Duration freshness,
+            @Value("${place.catalog.coverage-max-keywords:10000}") long coverageMaxKeywords,
+            @Value("${place.catalog.persist-queue-size:1000}") int persistQueueSize,
+            @Value("${place.catalog.max-entries:200000}") int maxEntries
+    ) {
+        this.placeCatalogStore = placeCatalogStore;
+        this.enabled = enabled;
+        this.freshness = freshness;
+        this.maxEntries = maxEntries;
+        this.coverages = Caffeine.newBuilder()
+                .maximumSize(coverageMaxKeywords)
+                .expireAfterWrite(freshness)
+                .build();
+        this.persistExecutor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(persistQueueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "place-catalog-persist");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if (runnable == trimTask) {
+                        // 다음 record에서 다시 예약합니다.
+                        trimScheduled.set(false);
+                        return;
+                    }
+                    log.warn("장소 카탈로그 저장 대기열이 가득 차 저장을 건너뜁니다");
+                }
+        );
+        this.hits = Counter.builder("place.catalog.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("place.catalog.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("place.catalog.size", index, PlaceCatalogIndex::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFreshEntries() {
+        if (!enabled) {
+            return;
+        }
+        persistExecutor.execute(() -> {
+            try {
+                placeCatalogStore.ensureSchema();
+                List<PlaceCatalogIndex.Entry> entries = placeCatalogStore.findSeenAfter(freshAfter());
+                entries.forEach(index::load);
+                index.trim(freshAfter(), maxEntries);
+                log.info("장소 카탈로그 적재 완료: count={}", index.size());
+            } catch (Exception ex) {
+                log.warn("장소 카탈로그 적재 실패: {}", ex.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        persistExecutor.shutdown();
+    }
+
+    /**
+     * coverage가 신선하면 카탈로그에서 찾은 결과를, 아니면 빈 값을 반환합니다(빈 값이면 카카오를 호출해야 합니다).
+     */
+    public Optional<CachedValue<List<PlaceSearchResponse.PlaceItem>>> search(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int size
+    ) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String normalizedKeyword = PlaceSearchCache.normalizeKeyword(keyword);
+        List<PlaceCatalogIndex.Hit> found =
+                index.query(normalizedKeyword, centerLat, centerLng, radiusMeters, size, freshAfter());
+
+        // size개를 다 채웠다면 size번째 장소까지의 반경만, 못 채웠다면 요청 반경 전체가 coverage 안에 있어야 합니다.
+        double requiredRadius = found.size() >= size
+                ? found.get(found.size() - 1).distanceMeters()
+                : radiusMeters;
+        Coverage coverage = findCoverage(normalizedKeyword, centerLat, centerLng, requiredRadius);
+        if (coverage == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        List<PlaceSearchResponse.PlaceItem> items = found.stream()
+                .map(hit -> hit.entry().toPlaceItem(keyword, (int) Math.round(hit.distanceMeters())))
+                .toList();
+        long ageSeconds = Duration.between(coverage.fetchedAt(), LocalDateTime.now()).toSeconds();
+        return Optional.of(new CachedValue<>(items, ageSeconds, false));
+    }
+
+    /**
+     * 상세 조회용: 신선한 장소가 있으면 기준 좌표와의 거리를 채워 반환합니다.
+     */
+    public Optional<PlaceSearchResponse.PlaceItem> findFresh(String providerPlaceId, double centerLat, double centerLng) {
+        if (!enabled || providerPlaceId == null || providerPlaceId.isBlank()) {
+            return Optional.empty();
+        }
+        return index.findById(providerPlaceId)
+                .filter(entry -> !entry.lastSeenAt().isBefore(freshAfter()))
+                .map(entry -> entry.toPlaceItem(null, GeoDistance.estimateMeters(
+                        centerLat, centerLng, entry.latitude(), entry.longitude())));
+    }
+
+    /**
+     * 카카오 키워드 검색 결과를 카탈로그에 반영합니다.
+     * 카카오는 거리순으로 size개까지만 돌려주므로 결과가 꽉 찼다면 가장 먼 결과까지만 coverage로 인정합니다.
+     */
+    public void record(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int size,
+            List<PlaceSearchResponse.PlaceItem> items
+    ) {
+        if (!enabled) {
+            return;
+        }
+        String normalizedKeyword = PlaceSearchCache.normalizeKeyword(keyword);
+        LocalDateTime now = LocalDateTime.now();
+        List<PlaceCatalogIndex.Entry> updated = new ArrayList<>();
+        double farthest = 0;
+        boolean complete = true;
+        for (PlaceSearchResponse.PlaceItem item : items) {
+            if (item.getProviderPlaceId() == null || item.getProviderPlaceId().isBlank()
+                    || item.getLatitude() == null || item.getLongitude() == null) {
+                // 위치를 알 수 없는 항목이 섞이면 반경 전체를 받았다고 단정할 수 없습니다.
+                complete = false;
+                continue;
+            }
+            updated.add(index.upsert(item, normalizedKeyword, now));
+            farthest = Math.max(farthest,
+                    GeoDistance.haversineMeters(centerLat, centerLng, item.getLatitude(), item.getLongitude()));
+        }
+
+        double coveredRadius = items.size() < size && complete ? radiusMeters : farthest;
+        if (coveredRadius > 0) {
+            ConcurrentLinkedDeque<Coverage> keywordCoverages =
+                    coverages.get(normalizedKeyword, key -> new ConcurrentLinkedDeque<>());
+            keywordCoverages.addFirst(new Coverage(centerLat, centerLng, coveredRadius, now));
+            while (keywordCoverages.size() > MAX_COVERAGES_PER_KEYWORD) {
+                keywordCoverages.pollLast();
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            persistExecutor.execute(() -> persist(updated));
+        }
+        scheduleTrimIfNeeded();
+    }
+
+    private void scheduleTrimIfNeeded() {
+        boolean due = index.size() > maxEntries
+                || System.nanoTime() - lastTrimNanos.get() > TRIM_INTERVAL_NANOS;
+        if (!due || !trimScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        persistExecutor.execute(trimTask);
+    }
+
+    private void trim() {
+        try {
+            int removed = index.trim(freshAfter(), maxEntries);
+            if (removed > 0) {
+                log.debug("장소 카탈로그 정리: removed={}, size={}", removed, index.size());
+            }
+        } finally {
+            lastTrimNanos.set(System.nanoTime());
+            trimScheduled.set(false);
+        }
+    }
+
+    private Coverage findCoverage(String normalizedKeyword, double centerLat, double centerLng, double requiredRadius) {
+        ConcurrentLinkedDeque<Coverage> keywordCoverages = coverages.getIfPresent(normalizedKeyword);
+        if (keywordCoverages == null) {
+            return null;
+        }
+        LocalDateTime freshAfter = freshAfter();
+        for (Coverage coverage : keywordCoverages) {
+            if (coverage.fetchedAt().isBefore(freshAfter)) {
+                continue;
+            }
+            double offset = GeoDistance.haversineMeters(centerLat, centerLng, coverage.centerLat(), coverage.centerLng());
+            if (offset + requiredRadius <= coverage.radiusMeters()) {
+                return coverage;
+            }
+        }
+        return null;
+    }
+
+    private void persist(List<PlaceCatalogIndex.Entry> entries) {
+        try {
+            placeCatalogStore.saveAll(entries);
+        } catch (Exception ex) {
+            log.warn("장소 카탈로그 저장 실패: count={}, reason={}", entries.size(), ex.getMessage());
+        }
+    }
+
+    private LocalDateTime freshAfter() {
+        return LocalDateTime.now().minus(freshness);
+    }
+
+    private record Coverage(double centerLat, double centerLng, double radiusMeters, LocalDateTime fetchedAt) {
+    }
+}
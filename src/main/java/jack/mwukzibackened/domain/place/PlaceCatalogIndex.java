@@ -0,0 +1,311 @@
+package jack.mwukzibackened.domain.place;
+
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장소 카탈로그의 메모리 공간 인덱스.
+ * 위경도를 고정 크기 격자로 나눠 셀마다 장소 배열을 두고, 반경 질의는 반경을 덮는 셀만 훑습니다.
+ * 셀 배열은 쓰기 때만 복사하므로 조회는 잠금 없이 진행됩니다.
+ * 크기와 나이 상한은 {@link #trim}으로 지키며, 지운 장소는 셀에서도 함께 뺍니다.
+ */
+final class PlaceCatalogIndex {
+
+    // 위도 0.005도 ≒ 555m, 서울 위도에서 경도 0.005도 ≒ 440m
+    private static final double CELL_DEGREES = 0.005;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Entry> byId = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 결과로 받은 장소를 반영합니다. 이미 있는 장소면 키워드를 합치고 최신 정보로 교체합니다.
+     */
+    Entry upsert(PlaceSearchResponse.PlaceItem item, String normalizedKeyword, LocalDateTime seenAt) {
+        return byId.compute(item.getProviderPlaceId(), (id, previous) -> {
+            Set<String> keywords = new HashSet<>();
+            if (previous != null) {
+                keywords.addAll(previous.keywords());
+            }
+            keywords.add(normalizedKeyword);
+            Entry next = Entry.of(item, keywords, seenAt);
+            replace(previous, next);
+            return next;
+        });
+    }
+
+    void load(Entry entry) {
+        byId.compute(entry.providerPlaceId(), (id, previous) -> {
+            if (previous != null && previous.lastSeenAt().isAfter(entry.lastSeenAt())) {
+                return previous;
+            }
+            replace(previous, entry);
+            return entry;
+        });
+    }
+
+    Optional<Entry> findById(String providerPlaceId) {
+        return Optional.ofNullable(byId.get(providerPlaceId));
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    /**
+     * seenBefore 이전에 마지막으로 확인된 장소를 지우고, 그래도 maxEntries를 넘으면 오래된 순으로 지웁니다.
+     * 지우는 사이에 갱신된 장소는 남겨 둡니다.
+     *
+     * @return 지운 장소 수
+     */
+    int trim(LocalDateTime seenBefore, int maxEntries) {
+        int removed = 0;
+        List<Entry> survivors = new ArrayList<>();
+        for (Entry entry : byId.values()) {
+            if (entry.lastSeenAt().isBefore(seenBefore)) {
+                removed += evict(entry) ? 1 : 0;
+            } else {
+                survivors.add(entry);
+            }
+        }
+        int excess = survivors.size() - maxEntries;
+        if (excess > 0) {
+            survivors.sort(Comparator.comparing(Entry::lastSeenAt));
+            for (int i = 0; i < excess; i++) {
+                removed += evict(survivors.get(i)) ? 1 : 0;
+            }
+        }
+        return removed;
+    }
+
+    private boolean evict(Entry entry) {
+        boolean[] evicted = {false};
+        byId.computeIfPresent(entry.providerPlaceId(), (id, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            long key = cellKey(cellOf(current.latitude()), cellOf(current.longitude()));
+            Cell cell = cells.get(key);
+            if (cell != null && cell.removeAndRetireIfEmpty(id)) {
+                cells.remove(key, cell);
+            }
+            evicted[0] = true;
+            return null;
+        });
+        return evicted[0];
+    }
+
+    /**
+     * keyword에 해당하는 장소 중 중심에서 radiusMeters 이내인 것을 가까운 순으로 최대 limit개 반환합니다.
+     * seenAfter 이전에 마지막으로 확인된 장소는 제외합니다.
+     */
+    List<Hit> query(
+            String normalizedKeyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int limit,
+            LocalDateTime seenAfter
+    ) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(centerLat))));
+        double minLat = centerLat - latDelta;
+        double maxLat = centerLat + latDelta;
+        double minLng = centerLng - lngDelta;
+        double maxLng = centerLng + lngDelta;
+
+        // 가장 먼 후보가 머리에 오도록 해 limit개만 유지합니다.
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::distanceMeters).reversed());
+        for (long row = cellOf(minLat); row <= cellOf(maxLat); row++) {
+            for (long col = cellOf(minLng); col <= cellOf(maxLng); col++) {
+                Cell cell = cells.get(cellKey(row, col));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.entries) {
+                    if (entry.latitude() < minLat || entry.latitude() > maxLat
+                            || entry.longitude() < minLng || entry.longitude() > maxLng
+                            || entry.lastSeenAt().isBefore(seenAfter)
+                            || !entry.matches(normalizedKeyword)) {
+                        continue;
+                    }
+                    double distance = GeoDistance.haversineMeters(centerLat, centerLng, entry.latitude(), entry.longitude());
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (nearest.size() < limit) {
+                        nearest.add(new Hit(entry, distance));
+                    } else if (distance < nearest.peek().distanceMeters()) {
+                        nearest.poll();
+                        nearest.add(new Hit(entry, distance));
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(nearest);
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits;
+    }
+
+    private void replace(Entry previous, Entry next) {
+        if (previous != null) {
+            // 이전 셀이 이미 내려졌으면 뺄 것도 없습니다. 새로 만들면 빈 셀이 남습니다.
+            long previousKey = cellKey(cellOf(previous.latitude()), cellOf(previous.longitude()));
+            Cell previousCell = cells.get(previousKey);
+            if (previousCell != null && previousCell.removeAndRetireIfEmpty(previous.providerPlaceId())) {
+                cells.remove(previousKey, previousCell);
+            }
+        }
+        long key = cellKey(cellOf(next.latitude()), cellOf(next.longitude()));
+        while (true) {
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            if (cell.add(next)) {
+                return;
+            }
+            // trim이 비워서 내리는 중인 셀이면 새 셀을 만들어 다시 넣습니다.
+            cells.remove(key, cell);
+        }
+    }
+
+    private static long cellOf(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private static final class Cell {
+
+        private volatile Entry[] entries = EMPTY;
+        private boolean retired;
+
+        synchronized boolean add(Entry entry) {
+            if (retired) {
+                return false;
+            }
+            Entry[] next = Arrays.copyOf(entries, entries.length + 1);
+            next[entries.length] = entry;
+            entries = next;
+            return true;
+        }
+
+        /**
+         * 장소를 빼고 셀이 비었으면 더 이상 쓰지 않도록 표시합니다. 표시했다면 호출한 쪽이 셀 맵에서 내립니다.
+         */
+        synchronized boolean removeAndRetireIfEmpty(String providerPlaceId) {
+            remove(providerPlaceId);
+            if (entries.length == 0) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        synchronized void remove(String providerPlaceId) {
+            Entry[] current = entries;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].providerPlaceId().equals(providerPlaceId)) {
+                    Entry[] next = new Entry[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    entries = next;
+                    return;
+                }
+            }
+        }
+    }
+
+    record Hit(Entry entry, double distanceMeters) {
+    }
+
+    record Entry(
+            String providerPlaceId,
+            String provider,
+            String name,
+            String category,
+            String address,
+            String roadAddress,
+            String phone,
+            double latitude,
+            double longitude,
+            String placeUrl,
+            Set<String> keywords,
+            LocalDateTime lastSeenAt,
+            String searchText
+    ) {
+
+        static Entry of(PlaceSearchResponse.PlaceItem item, Set<String> keywords, LocalDateTime seenAt) {
+            return create(
+                    item.getProviderPlaceId(),
+                    item.getProvider(),
+                    item.getName(),
+                    item.getCategory(),
+                    item.getAddress(),
+                    item.getRoadAddress(),
+                    item.getPhone(),
+                    item.getLatitude(),
+                    item.getLongitude(),
+                    item.getPlaceUrl(),
+                    keywords,
+                    seenAt
+            );
+        }
+
+        static Entry create(
+                String providerPlaceId,
+                String provider,
+                String name,
+                String category,
+                String address,
+                String roadAddress,
+                String phone,
+                double latitude,
+                double longitude,
+                String placeUrl,
+                Set<String> keywords,
+                LocalDateTime lastSeenAt
+        ) {
+            String searchText = ((name == null ? "" : name) + " " + (category == null ? "" : category))
+                    .toLowerCase(Locale.ROOT);
+            return new Entry(providerPlaceId, provider, name, category, address, roadAddress, phone,
+                    latitude, longitude, placeUrl, Set.copyOf(keywords), lastSeenAt, searchText);
+        }
+
+        /**
+         * 이 키워드로 카카오가 돌려준 적이 있거나, 이름/카테고리에 키워드가 들어 있으면 일치로 봅니다.
+         */
+        boolean matches(String normalizedKeyword) {
+            return keywords.contains(normalizedKeyword) || searchText.contains(normalizedKeyword);
+        }
+
+        PlaceSearchResponse.PlaceItem toPlaceItem(String sourceKeyword, Integer distanceMeters) {
+            return PlaceSearchResponse.PlaceItem.builder()
+                    .provider(provider)
+                    .providerPlaceId(providerPlaceId)
+                    .name(name)
+                    .category(category)
+                    .address(address)
+                    .roadAddress(roadAddress)
+                    .phone(phone)
+                    .distanceMeters(distanceMeters)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .placeUrl(placeUrl)
+                    .sourceKeyword(sourceKeyword)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package jack.mwukzibackened.domain.place;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * place_catalog 테이블 저장소.
+ * JPA 엔티티로 두면 카탈로그를 꺼 둔 환경에서도 스키마 검증(ddl-auto: validate)에 걸리므로 JdbcTemplate으로 다루고,
+ * 테이블은 카탈로그가 켜져 있을 때 {@link #ensureSchema()}로 만듭니다 (src/main/resources/db/place_catalog.sql).
+ */
+@Component
+public class PlaceCatalogStore {
+
+    private static final String SCHEMA = "db/place_catalog.sql";
+    private static final String UPSERT = """
+            INSERT INTO place_catalog (provider_place_id, provider, name, category, address, road_address, phone,
+                                       latitude, longitude, place_url, keywords, last_seen_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (provider_place_id) DO UPDATE SET
+                provider = EXCLUDED.provider,
+                name = EXCLUDED.name,
+                category = EXCLUDED.category,
+                address = EXCLUDED.address,
+                road_address = EXCLUDED.road_address,
+                phone = EXCLUDED.phone,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                place_url = EXCLUDED.place_url,
+                keywords = EXCLUDED.keywords,
+                last_seen_at = EXCLUDED.last_seen_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlaceCatalogStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void ensureSchema() {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA))
+                .execute(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+    }
+
+    List<PlaceCatalogIndex.Entry> findSeenAfter(LocalDateTime seenAfter) {
+        return jdbcTemplate.query(
+                "SELECT * FROM place_catalog WHERE last_seen_at > ?",
+                (rs, rowNum) -> PlaceCatalogIndex.Entry.create(
+                        rs.getString("provider_place_id"),
+                        rs.getString("provider"),
+                        rs.getString("name"),
+                        rs.getString("category"),
+                        rs.getString("address"),
+                        rs.getString("road_address"),
+                        rs.getString("phone"),
+                        rs.getDouble("latitude"),
+                        rs.getDouble("longitude"),
+                        rs.getString("place_url"),
+                        new HashSet<>(Arrays.asList(rs.getString("keywords").split("\\|"))),
+                        rs.getTimestamp("last_seen_at").toLocalDateTime()
+                ),
+                Timestamp.valueOf(seenAfter)
+        );
+    }
+
+    void saveAll(List<PlaceCatalogIndex.Entry> entries) {
+        jdbcTemplate.batchUpdate(UPSERT, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.providerPlaceId());
+            ps.setString(2, entry.provider());
+            ps.setString(3, entry.name());
+            ps.setString(4, entry.category());
+            ps.setString(5, entry.address());
+            ps.setString(6, entry.roadAddress());
+            ps.setString(7, entry.phone());
+            ps.setDouble(8, entry.latitude());
+            ps.setDouble(9, entry.longitude());
+            ps.setString(10, entry.placeUrl());
+            ps.setString(11, String.join("|", entry.keywords()));
+            ps.setTimestamp(12, Timestamp.valueOf(entry.lastSeenAt()));
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package jack.mwukzibackened.domain.place;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jack.mwukzibackened.domain.place.dto.PlaceDetailResponse;
+import jack.mwukzibackened.domain.place.dto.PlaceFreshness;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 식당 상세(이미지 목록 포함) 캐시. providerPlaceId 단위로 저장합니다.
+ * 거리는 방마다 다르므로 꺼낼 때 방 중심 기준으로 다시 계산합니다.
+ * soft TTL이 지난 항목은 그대로 돌려주면서 백그라운드 갱신을 걸고, hard TTL이 지나면 버립니다.
+ * 이미지가 없는 상세도 저장하되, 이미지 검색이 잠깐 실패한 결과일 수 있어 더 짧은 TTL(empty-images-*)을 씁니다.
+ */
+@Component
+public class PlaceDetailCache {
+
+    private final Cache<String, Entry> cache;
+    private final PlaceCacheRefresher refresher;
+    private final long softTtlNanos;
+    private final long emptyImagesSoftTtlNanos;
+
+    public PlaceDetailCache(
+            MeterRegistry meterRegistry,
+            PlaceCacheRefresher refresher,
+            @Value("${place.detail.cache.max-size:5000}") long maxSize,
+            @Value("${place.detail.cache.soft-ttl:1h}") Duration softTtl,
+            @Value("${place.detail.cache.hard-ttl:6h}") Duration hardTtl,
+            @Value("${place.detail.cache.empty-images-soft-ttl:5m}") Duration emptyImagesSoftTtl,
+            @Value("${place.detail.cache.empty-images-hard-ttl:30m}") Duration emptyImagesHardTtl
+    ) {
+        this.refresher = refresher;
+        this.softTtlNanos = softTtl.toNanos();
+        this.emptyImagesSoftTtlNanos = emptyImagesSoftTtl.toNanos();
+        long hardTtlNanos = hardTtl.toNanos();
+        long emptyImagesHardTtlNanos = emptyImagesHardTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.hasImages() ? hardTtlNanos : emptyImagesHardTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "place.detail");
+    }
+
+    /**
+     * 항목이 soft TTL을 넘겼다면 revalidate로 백그라운드 갱신을 시작하고 STALE 표시와 함께 반환합니다.
+     */
+    public PlaceDetailResponse get(
+            String providerPlaceId,
+            double centerLat,
+            double centerLng,
+            Supplier<Mono<?>> revalidate
+    ) {
+        Entry entry = lookup(providerPlaceId);
+        if (entry == null) {
+            return null;
+        }
+        long ageNanos = System.nanoTime() - entry.writtenAtNanos();
+        boolean stale = ageNanos >= softTtlOf(entry);
+        if (stale) {
+            refresher.refresh("detail:" + providerPlaceId, revalidate);
+        }
+        return relocate(entry.detail(), centerLat, centerLng, ageNanos, stale);
+    }
+
+    /**
+     * soft TTL 안의 항목만 반환합니다. 갱신 경로에서 방금 만료된 값을 다시 집어 오지 않도록 쓰입니다.
+     */
+    public PlaceDetailResponse getIfFresh(String providerPlaceId, double centerLat, double centerLng) {
+        Entry entry = lookup(providerPlaceId);
+        if (entry == null) {
+            return null;
+        }
+        long ageNanos = System.nanoTime() - entry.writtenAtNanos();
+        if (ageNanos >= softTtlOf(entry)) {
+            return null;
+        }
+        return relocate(entry.detail(), centerLat, centerLng, ageNanos, false);
+    }
+
+    public void put(PlaceDetailResponse detail) {
+        if (detail.getProviderPlaceId() == null || detail.getProviderPlaceId().isBlank()) {
+            return;
+        }
+        cache.put(detail.getProviderPlaceId(), new Entry(detail, System.nanoTime()));
+    }
+
+    private long softTtlOf(Entry entry) {
+        return entry.hasImages() ? softTtlNanos : emptyImagesSoftTtlNanos;
+    }
+
+    private Entry lookup(String providerPlaceId) {
+        if (providerPlaceId == null || providerPlaceId.isBlank()) {
+            return null;
+        }
+        return cache.getIfPresent(providerPlaceId);
+    }
+
+    private PlaceDetailResponse relocate(
+            PlaceDetailResponse cached,
+            double centerLat,
+            double centerLng,
+            long ageNanos,
+            boolean stale
+    ) {
+        Integer distanceMeters = cached.getLatitude() == null || cached.getLongitude() == null
+                ? cached.getDistanceMeters()
+                : GeoDistance.estimateMeters(centerLat, centerLng, cached.getLatitude(), cached.getLongitude());
+        return cached.toBuilder()
+                .distanceMeters(distanceMeters)
+                .freshness(stale ? PlaceFreshness.STALE : PlaceFreshness.FRESH)
+                .ageSeconds(Duration.ofNanos(ageNanos).toSeconds())
+                .build();
+    }
+
+    private record Entry(PlaceDetailResponse detail, long writtenAtNanos) {
+
+        boolean hasImages() {
+            return detail.getImageUrls() != null && !detail.getImageUrls().isEmpty();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package jack.mwukzibackened.domain.place;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 카카오 키워드 검색 결과 캐시.
+ * 정규화한 키워드 + 중심 좌표 geohash 셀 + 반경 버킷 단위로 묶어 같은 상권의 반복 검색을 흡수합니다.
+ * 캐시된 항목의 거리는 최초 요청 중심 기준이므로, 꺼내 쓰는 쪽에서 실제 중심 기준으로 다시 계산해야 합니다.
+ * soft TTL이 지난 항목은 그대로 돌려주면서 백그라운드 갱신을 걸고, hard TTL이 지나면 버립니다.
+ */
+@Component
+public class PlaceSearchCache {
+
+    // geohash 7자리 ≒ 150m x 150m 셀
+    private static final int GEOHASH_PRECISION = 7;
+    private static final int RADIUS_BUCKET_METERS = 500;
+
+    private final Cache<Key, Entry> cache;
+    private final PlaceCacheRefresher refresher;
+    private final long softTtlNanos;
+
+    public PlaceSearchCache(
+            MeterRegistry meterRegistry,
+            PlaceCacheRefresher refresher,
+            @Value("${place.search.cache.max-size:10000}") long maxSize,
+            @Value("${place.search.cache.soft-ttl:10m}") Duration softTtl,
+            @Value("${place.search.cache.hard-ttl:1h}") Duration hardTtl
+    ) {
+        this.refresher = refresher;
+        this.softTtlNanos = softTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(hardTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "place.search");
+    }
+
+    /**
+     * 항목이 soft TTL을 넘겼다면 revalidate로 백그라운드 갱신을 시작하고 stale 표시와 함께 반환합니다.
+     */
+    public CachedValue<List<PlaceSearchResponse.PlaceItem>> get(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int size,
+            Supplier<Mono<?>> revalidate
+    ) {
+        Key key = keyOf(keyword, centerLat, centerLng, radiusMeters, size);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        long ageNanos = System.nanoTime() - entry.writtenAtNanos();
+        boolean stale = ageNanos >= softTtlNanos;
+        if (stale) {
+            refresher.refresh(key, revalidate);
+        }
+        return new CachedValue<>(entry.items(), Duration.ofNanos(ageNanos).toSeconds(), stale);
+    }
+
+    public void put(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int size,
+            List<PlaceSearchResponse.PlaceItem> items
+    ) {
+        cache.put(keyOf(keyword, centerLat, centerLng, radiusMeters, size), new Entry(List.copyOf(items), System.nanoTime()));
+    }
+
+    private Key keyOf(String keyword, double centerLat, double centerLng, int radiusMeters, int size) {
+        String normalizedKeyword = normalizeKeyword(keyword);
+        String cell = GeoHash.encode(centerLat, centerLng, GEOHASH_PRECISION);
+        return new Key(normalizedKeyword, cell, radiusBucket(radiusMeters), size);
+    }
+
+    /**
+     * 캐시 키로 쓰는 반경 (500m 단위로 올림). 항목은 이 반경으로 조회해 넣어야, 더 작은 반경 요청이 걸러 써도 결과가 모자라지 않습니다.
+     */
+    static int radiusBucket(int radiusMeters) {
+        return ((radiusMeters + RADIUS_BUCKET_METERS - 1) / RADIUS_BUCKET_METERS) * RADIUS_BUCKET_METERS;
+    }
+
+    static String normalizeKeyword(String keyword) {
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String keyword, String cell, int radiusBucket, int size) {
+    }
+
+    private record Entry(List<PlaceSearchResponse.PlaceItem> items, long writtenAtNanos) {
+    }
+}
@@ -12,6 +12,8 @@ import jack.mwukzibackened.domain.place.dto.RoulettePickResponse;
 import jack.mwukzibackened.domain.place.dto.SubmitPlaceSelectionRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
@@ -34,24 +38,42 @@ public class PlaceSearchController {
     private final PlaceSearchService placeSearchService;
     private final PlaceSelectionService placeSelectionService;
 
+    @Value("${external-api.non-blocking:false}")
+    private boolean externalApiNonBlocking;
+
     @PostMapping("/{roomId}/places/search")
     @Operation(summary = "주변 식당 검색", description = "방 중심 좌표 또는 요청 좌표 기준으로 주변 식당을 검색합니다.")
-    public ResponseEntity<PlaceSearchResponse> searchPlaces(
+    public Mono<ResponseEntity<PlaceSearchResponse>> searchPlaces(
             @PathVariable UUID roomId,
             @Valid @RequestBody(required = false) PlaceSearchRequest request
     ) {
+        if (externalApiNonBlocking) {
+            return placeSearchService.searchAsync(roomId, request).map(ResponseEntity::ok);
+        }
         PlaceSearchResponse response = placeSearchService.search(roomId, request);
-        return ResponseEntity.ok(response);
+        return Mono.just(ResponseEntity.ok(response));
+    }
+
+    @PostMapping(value = "/{roomId}/places/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "주변 식당 검색(SSE)", description = "키워드별 검색이 끝나는 대로 식당을 전달하고 마지막에 정렬된 요약을 보냅니다.")
+    public SseEmitter streamSearchPlaces(
+            @PathVariable UUID roomId,
+            @Valid @RequestBody(required = false) PlaceSearchRequest request
+    ) {
+        return placeSearchService.streamSearch(roomId, request);
     }
 
     @PostMapping("/{roomId}/places/detail")
     @Operation(summary = "식당 상세 조회", description = "선택한 식당의 최신 상세 정보를 다시 조회합니다.")
-    public ResponseEntity<PlaceDetailResponse> getPlaceDetail(
+    public Mono<ResponseEntity<PlaceDetailResponse>> getPlaceDetail(
             @PathVariable UUID roomId,
             @Valid @RequestBody PlaceDetailRequest request
     ) {
+        if (externalApiNonBlocking) {
+            return placeSearchService.getPlaceDetailAsync(roomId, request).map(ResponseEntity::ok);
+        }
         PlaceDetailResponse response = placeSearchService.getPlaceDetail(roomId, request);
-        return ResponseEntity.ok(response);
+        return Mono.just(ResponseEntity.ok(response));
     }
 
     @PostMapping("/{roomId}/places/selections")
@@ -0,0 +1,79 @@
+package jack.mwukzibackened.domain.place;
+
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * "더 보기" 검색을 이어가기 위한 커서 상태. 서버에 두지 않고 {@link PlaceSearchCursorCodec}으로 서명해 토큰에 담습니다.
+ * 이미 내려준 식당은 placeKey의 64비트 지문을 정렬된 배열로만 기억해, 이전 페이지를 다시 받지 않고도 중복을 거릅니다.
+ * carryOver는 직전 응답에서 MAX_RESULT_SIZE를 넘겨 잘린 식당으로, 다음 페이지 후보에 먼저 포함됩니다.
+ * 불변 객체이며 페이지마다 새 커서를 발급합니다.
+ */
+record PlaceSearchCursor(
+        UUID roomId,
+        double centerLat,
+        double centerLng,
+        int radiusMeters,
+        int sizePerKeyword,
+        List<KeywordPage> keywords,
+        long[] seen,
+        List<PlaceSearchResponse.PlaceItem> carryOver
+) {
+
+    // 카카오 키워드 검색의 page 상한
+    static final int MAX_KAKAO_PAGE = 45;
+
+    boolean hasMore() {
+        return !carryOver.isEmpty() || keywords.stream().anyMatch(page -> !page.end());
+    }
+
+    boolean isSeen(long fingerprint) {
+        return Arrays.binarySearch(seen, fingerprint) >= 0;
+    }
+
+    static long[] merge(long[] seen, long[] added) {
+        long[] merged = Arrays.copyOf(seen, seen.length + added.length);
+        System.arraycopy(added, 0, merged, seen.length, added.length);
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * FNV-1a 64비트 해시
+     */
+    static long fingerprint(String placeKey) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : placeKey.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 키워드별 다음에 받을 카카오 page와 마지막 페이지 도달 여부
+     */
+    record KeywordPage(String keyword, int nextPage, boolean end) {
+
+        static KeywordPage firstPage(String keyword) {
+            return new KeywordPage(keyword, 1, false);
+        }
+
+        /**
+         * 첫 페이지를 이 커서의 중심/반경으로 카카오에서 직접 받았을 때만 씁니다.
+         */
+        static KeywordPage afterFirstPage(String keyword, int returned, int sizePerKeyword) {
+            // 첫 페이지는 meta를 읽지 않으므로 size보다 적게 왔으면 끝으로 봅니다.
+            // 반경 구간으로 받아 요청 반경으로 거른 결과가 size보다 적다면 요청 반경 안의 식당은 모두 받은 것입니다.
+            return new KeywordPage(keyword, 2, returned < sizePerKeyword);
+        }
+
+        KeywordPage advance(boolean lastPage) {
+            return new KeywordPage(keyword, nextPage + 1, lastPage || nextPage >= MAX_KAKAO_PAGE);
+        }
+    }
+}
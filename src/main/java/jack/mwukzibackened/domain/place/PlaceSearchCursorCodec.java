@@ -0,0 +1,212 @@
+package jack.mwukzibackened.domain.place;
+
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 장소 검색 커서를 서버에 저장하지 않고 토큰 자체에 담습니다.
+ * 커서 상태(키워드별 다음 page, 이미 내려준 식당 지문, 넘겨 둔 식당)를 바이너리로 직렬화해 HMAC-SHA256으로 서명하므로,
+ * 어느 인스턴스가 발급했든 같은 키를 쓰는 인스턴스라면 다음 페이지를 이어서 받을 수 있습니다.
+ * 토큰은 {@code base64url(본문).base64url(서명)} 형태이고, 본문에 발급 시각을 넣어 ttl이 지나면 받지 않습니다.
+ */
+@Component
+public class PlaceSearchCursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int VERSION = 1;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public PlaceSearchCursorCodec(
+            @Value("${place.search.cursor.key}") String key,
+            @Value("${place.search.cursor.ttl:30m}") Duration ttl
+    ) {
+        this(key, ttl, System::currentTimeMillis);
+    }
+
+    PlaceSearchCursorCodec(String key, Duration ttl, LongSupplier clock) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException("place.search.cursor.key(PLACE_SEARCH_CURSOR_KEY)가 설정되지 않았습니다");
+        }
+        this.key = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    String encode(PlaceSearchCursor cursor) {
+        byte[] body = write(cursor, clock.getAsLong());
+        return ENCODER.encodeToString(body) + "." + ENCODER.encodeToString(sign(body));
+    }
+
+    /**
+     * @return 서명이 맞지 않거나, 만료되었거나, 읽을 수 없는 토큰이면 빈 값
+     */
+    Optional<PlaceSearchCursor> decode(String token) {
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] body = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(body), signature)) {
+                return Optional.empty();
+            }
+            return read(body);
+        } catch (IllegalArgumentException | IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("검색 커서 서명 실패", ex);
+        }
+    }
+
+    private static byte[] write(PlaceSearchCursor cursor, long issuedAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(issuedAt);
+            out.writeLong(cursor.roomId().getMostSignificantBits());
+            out.writeLong(cursor.roomId().getLeastSignificantBits());
+            out.writeDouble(cursor.centerLat());
+            out.writeDouble(cursor.centerLng());
+            out.writeInt(cursor.radiusMeters());
+            out.writeInt(cursor.sizePerKeyword());
+            out.writeShort(cursor.keywords().size());
+            for (PlaceSearchCursor.KeywordPage page : cursor.keywords()) {
+                out.writeUTF(page.keyword());
+                out.writeByte(page.nextPage());
+                out.writeBoolean(page.end());
+            }
+            out.writeShort(cursor.seen().length);
+            for (long fingerprint : cursor.seen()) {
+                out.writeLong(fingerprint);
+            }
+            out.writeShort(cursor.carryOver().size());
+            for (PlaceSearchResponse.PlaceItem item : cursor.carryOver()) {
+                writeItem(out, item);
+            }
+        } catch (IOException ex) {
+            // ByteArrayOutputStream에 쓰므로 일어나지 않습니다.
+            throw new IllegalStateException("검색 커서 직렬화 실패", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Optional<PlaceSearchCursor> read(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        if (in.readUnsignedByte() != VERSION) {
+            return Optional.empty();
+        }
+        long issuedAt = in.readLong();
+        if (clock.getAsLong() - issuedAt > ttlMillis) {
+            return Optional.empty();
+        }
+        UUID roomId = new UUID(in.readLong(), in.readLong());
+        double centerLat = in.readDouble();
+        double centerLng = in.readDouble();
+        int radiusMeters = in.readInt();
+        int sizePerKeyword = in.readInt();
+        int keywordCount = in.readUnsignedShort();
+        List<PlaceSearchCursor.KeywordPage> keywords = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            keywords.add(new PlaceSearchCursor.KeywordPage(in.readUTF(), in.readUnsignedByte(), in.readBoolean()));
+        }
+        long[] seen = new long[in.readUnsignedShort()];
+        for (int i = 0; i < seen.length; i++) {
+            seen[i] = in.readLong();
+        }
+        int carryOverCount = in.readUnsignedShort();
+        List<PlaceSearchResponse.PlaceItem> carryOver = new ArrayList<>(carryOverCount);
+        for (int i = 0; i < carryOverCount; i++) {
+            carryOver.add(readItem(in));
+        }
+        return Optional.of(new PlaceSearchCursor(
+                roomId, centerLat, centerLng, radiusMeters, sizePerKeyword, keywords, seen, carryOver));
+    }
+
+    private static void writeItem(DataOutputStream out, PlaceSearchResponse.PlaceItem item) throws IOException {
+        writeNullable(out, item.getProvider());
+        writeNullable(out, item.getProviderPlaceId());
+        writeNullable(out, item.getName());
+        writeNullable(out, item.getCategory());
+        writeNullable(out, item.getAddress());
+        writeNullable(out, item.getRoadAddress());
+        writeNullable(out, item.getPhone());
+        out.writeBoolean(item.getDistanceMeters() != null);
+        if (item.getDistanceMeters() != null) {
+            out.writeInt(item.getDistanceMeters());
+        }
+        out.writeBoolean(item.getLatitude() != null && item.getLongitude() != null);
+        if (item.getLatitude() != null && item.getLongitude() != null) {
+            out.writeDouble(item.getLatitude());
+            out.writeDouble(item.getLongitude());
+        }
+        writeNullable(out, item.getPlaceUrl());
+        writeNullable(out, item.getSourceKeyword());
+    }
+
+    private static PlaceSearchResponse.PlaceItem readItem(DataInputStream in) throws IOException {
+        PlaceSearchResponse.PlaceItem.PlaceItemBuilder item = PlaceSearchResponse.PlaceItem.builder()
+                .provider(readNullable(in))
+                .providerPlaceId(readNullable(in))
+                .name(readNullable(in))
+                .category(readNullable(in))
+                .address(readNullable(in))
+                .roadAddress(readNullable(in))
+                .phone(readNullable(in));
+        if (in.readBoolean()) {
+            item.distanceMeters(in.readInt());
+        }
+        if (in.readBoolean()) {
+            item.latitude(in.readDouble()).longitude(in.readDouble());
+        }
+        return item
+                .placeUrl(readNullable(in))
+                .sourceKeyword(readNullable(in))
+                .build();
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
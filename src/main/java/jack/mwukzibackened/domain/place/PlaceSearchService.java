@@ -1,38 +1,52 @@
 package jack.mwukzibackened.domain.place;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jack.mwukzibackened.common.exception.BadRequestException;
+import jack.mwukzibackened.common.exception.ErrorResponse;
 import jack.mwukzibackened.common.exception.KakaoApiException;
 import jack.mwukzibackened.common.exception.NotFoundException;
+import jack.mwukzibackened.common.http.ExternalWebClients;
+import jack.mwukzibackened.common.http.UpstreamGuards;
+import jack.mwukzibackened.common.http.UpstreamHedging;
 import jack.mwukzibackened.domain.ai.AiRecommendationService;
 import jack.mwukzibackened.domain.ai.dto.MenuRecommendationResponse;
 import jack.mwukzibackened.domain.place.dto.PlaceDetailRequest;
 import jack.mwukzibackened.domain.place.dto.PlaceDetailResponse;
+import jack.mwukzibackened.domain.place.dto.PlaceFreshness;
+import jack.mwukzibackened.domain.place.dto.PlaceSearchChunkResponse;
 import jack.mwukzibackened.domain.place.dto.PlaceSearchRequest;
 import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
-import jack.mwukzibackened.domain.room.Room;
-import jack.mwukzibackened.domain.room.RoomRepository;
+import jack.mwukzibackened.domain.room.RoomCache;
+import jack.mwukzibackened.domain.room.RoomSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -43,14 +57,20 @@ public class PlaceSearchService {
     private static final int DEFAULT_SIZE_PER_KEYWORD = 5;
     private static final int DEFAULT_MAX_KEYWORDS = 5;
     private static final int MAX_RESULT_SIZE = 30;
-    private static final Pattern OG_IMAGE_PATTERN =
-            Pattern.compile("<meta[^>]*property=[\"']og:image[\"'][^>]*content=[\"']([^\"']+)[\"'][^>]*>",
-                    Pattern.CASE_INSENSITIVE);
+    private static final long SEARCH_STREAM_TIMEOUT_MILLIS = 30_000L;
 
-    private final RoomRepository roomRepository;
+    private final RoomCache roomCache;
     private final AiRecommendationService aiRecommendationService;
-    private final WebClient webClient = WebClient.builder().build();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PlaceSearchCache placeSearchCache;
+    private final ExternalWebClients externalWebClients;
+    private final UpstreamGuards upstreamGuards;
+    private final UpstreamHedging upstreamHedging;
+    private final KakaoSearchResponseDecoder kakaoSearchResponseDecoder;
+    private final OgImageExtractor ogImageExtractor;
+    private final PlaceCatalog placeCatalog;
+    private final PlaceDetailCache placeDetailCache;
+    private final KeywordSearchSingleFlight keywordSearchSingleFlight;
+    private final PlaceSearchCursorCodec placeSearchCursorCodec;
 
     @Value("${kakao.rest-api-key:}")
     private String kakaoRestApiKey;
@@ -61,103 +81,202 @@ public class PlaceSearchService {
     @Value("${kakao.image-search-url:https://dapi.kakao.com/v2/search/image}")
     private String kakaoImageSearchUrl;
 
-    public PlaceSearchResponse search(UUID roomId, PlaceSearchRequest request) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+    @Value("${place.detail.image-lookup-budget:3s}")
+    private Duration imageLookupBudget;
 
-        double centerLat = request != null && request.getLatitude() != null
-                ? request.getLatitude()
-                : room.getCenterLat().doubleValue();
-        double centerLng = request != null && request.getLongitude() != null
-                ? request.getLongitude()
-                : room.getCenterLng().doubleValue();
-        int radiusMeters = request != null && request.getRadiusMeters() != null
-                ? request.getRadiusMeters()
-                : room.getRadiusMeters();
-        int sizePerKeyword = request != null && request.getSizePerKeyword() != null
-                ? request.getSizePerKeyword()
-                : DEFAULT_SIZE_PER_KEYWORD;
+    @Value("${place.search.keyword-concurrency:5}")
+    private int keywordConcurrency;
 
-        List<String> keywords = normalizeKeywords(request == null ? List.of() : request.getKeywords());
-        if (keywords.isEmpty()) {
-            keywords = readKeywordsFromLatestRecommendation(roomId);
-        }
-        if (keywords.isEmpty()) {
-            throw new BadRequestException("검색 키워드가 없습니다. keywords를 전달하거나 AI 추천을 먼저 생성해 주세요");
+    public PlaceSearchResponse search(UUID roomId, PlaceSearchRequest request) {
+        return searchAsync(roomId, request).block();
+    }
+
+    /**
+     * 방/키워드 검증은 호출 스레드에서 끝내고, 카카오 호출부터는 요청 스레드를 점유하지 않는 Mono로 반환합니다.
+     */
+    public Mono<PlaceSearchResponse> searchAsync(UUID roomId, PlaceSearchRequest request) {
+        if (request != null && request.getCursor() != null && !request.getCursor().isBlank()) {
+            return searchNextPage(roomId, request.getCursor());
         }
+        SearchContext context = resolveSearchContext(roomId, request);
+
+        // 키워드별 카카오 호출은 동시에 보내되, 병합은 키워드 순서대로 해 결과를 결정적으로 유지합니다.
+        return Flux.fromIterable(context.keywords())
+                .flatMapSequential(
+                        keyword -> searchKeyword(keyword, context),
+                        Math.max(1, keywordConcurrency)
+                )
+                .collectList()
+                .map(results -> buildSearchResponse(context, results));
+    }
 
+    /**
+     * 커서로 "더 보기"를 처리합니다. 아직 is_end가 아닌 키워드만 다음 카카오 페이지를 받아 오고,
+     * 이미 내려준 식당은 커서의 지문 목록으로 거릅니다. 페이지 결과는 캐시하지 않습니다.
+     */
+    private Mono<PlaceSearchResponse> searchNextPage(UUID roomId, String cursorToken) {
+        PlaceSearchCursor cursor = placeSearchCursorCodec.decode(cursorToken)
+                .filter(found -> found.roomId().equals(roomId))
+                .orElseThrow(() -> new BadRequestException("검색 커서가 만료되었거나 올바르지 않습니다. 처음부터 다시 검색해 주세요"));
         if (kakaoRestApiKey == null || kakaoRestApiKey.isBlank()) {
             throw new BadRequestException("KAKAO_REST_API_KEY가 설정되지 않았습니다");
         }
 
-        Map<String, PlaceSearchResponse.PlaceItem> merged = new LinkedHashMap<>();
-        for (String keyword : keywords) {
-            List<PlaceSearchResponse.PlaceItem> items = callKakaoKeywordSearch(
-                    keyword,
-                    centerLat,
-                    centerLng,
-                    radiusMeters,
-                    sizePerKeyword
-            );
-            for (PlaceSearchResponse.PlaceItem item : items) {
-                String key = item.getProviderPlaceId() == null || item.getProviderPlaceId().isBlank()
-                        ? item.getName() + ":" + item.getLatitude() + ":" + item.getLongitude()
-                        : item.getProviderPlaceId();
-                merged.putIfAbsent(key, item);
-            }
-        }
-
-        List<PlaceSearchResponse.PlaceItem> places = merged.values().stream()
-                .sorted(Comparator.comparing(item -> item.getDistanceMeters() == null ? Integer.MAX_VALUE : item.getDistanceMeters()))
-                .limit(MAX_RESULT_SIZE)
-                .toList();
+        return Flux.fromIterable(cursor.keywords())
+                .filter(page -> !page.end())
+                .flatMapSequential(page -> requestKakaoKeywordSearch(
+                                        page.keyword(),
+                                        cursor.centerLat(),
+                                        cursor.centerLng(),
+                                        cursor.radiusMeters(),
+                                        cursor.sizePerKeyword(),
+                                        page.nextPage(),
+                                        buffer -> decodePlacePage(buffer, page.keyword(), cursor.centerLat(),
+                                                cursor.centerLng(), cursor.sizePerKeyword())
+                                )
+                                .map(result -> PageResult.success(page, result))
+                                .onErrorResume(ex -> {
+                                    log.warn("카카오 장소 검색 다음 페이지 실패: keyword={}, page={}, reason={}",
+                                            page.keyword(), page.nextPage(), ex.getMessage());
+                                    return Mono.just(PageResult.failure(page));
+                                }),
+                        Math.max(1, keywordConcurrency)
+                )
+                .collectList()
+                .map(results -> buildNextPageResponse(cursor, results));
+    }
 
-        return PlaceSearchResponse.builder()
-                .centerLat(centerLat)
-                .centerLng(centerLng)
-                .radiusMeters(radiusMeters)
-                .keywordsUsed(keywords)
-                .places(places)
-                .build();
+    /**
+     * 키워드 검색이 끝나는 순서대로 places 이벤트를 보내고, 마지막에 search()와 같은 기준으로 정렬한 summary 이벤트를 보냅니다.
+     * places 이벤트에는 앞서 전송한 식당을 제외한 항목만 담깁니다.
+     */
+    public SseEmitter streamSearch(UUID roomId, PlaceSearchRequest request) {
+        SearchContext context = resolveSearchContext(roomId, request);
+        SseEmitter emitter = new SseEmitter(SEARCH_STREAM_TIMEOUT_MILLIS);
+        Set<String> sentPlaceKeys = new HashSet<>();
+
+        Disposable subscription = Flux.fromIterable(context.keywords())
+                .flatMap(keyword -> searchKeyword(keyword, context), Math.max(1, keywordConcurrency))
+                .doOnNext(result -> sendSearchChunk(emitter, result, sentPlaceKeys))
+                .collectMap(KeywordSearchResult::keyword)
+                .subscribe(resultsByKeyword -> {
+                    List<KeywordSearchResult> ordered = context.keywords().stream()
+                            .map(resultsByKeyword::get)
+                            .toList();
+                    try {
+                        sendStreamEvent(emitter, "summary", buildSearchResponse(context, ordered));
+                    } catch (KakaoApiException ex) {
+                        sendStreamEvent(emitter, "error", ErrorResponse.builder()
+                                .code("KAKAO_API_ERROR")
+                                .message("외부 카카오 서비스 오류입니다")
+                                .build());
+                    }
+                    emitter.complete();
+                }, emitter::completeWithError);
+
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(ex -> subscription.dispose());
+        return emitter;
     }
 
     public PlaceDetailResponse getPlaceDetail(UUID roomId, PlaceDetailRequest request) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        return getPlaceDetailAsync(roomId, request).block();
+    }
+
+    public Mono<PlaceDetailResponse> getPlaceDetailAsync(UUID roomId, PlaceDetailRequest request) {
+        RoomSnapshot room = roomCache.getById(roomId);
         if (kakaoRestApiKey == null || kakaoRestApiKey.isBlank()) {
             throw new BadRequestException("KAKAO_REST_API_KEY가 설정되지 않았습니다");
         }
 
         // 상세 조회의 거리 기준은 항상 방 중심 좌표로 고정해 0m 오표시를 방지합니다.
-        double centerLat = room.getCenterLat().doubleValue();
-        double centerLng = room.getCenterLng().doubleValue();
-        List<PlaceSearchResponse.PlaceItem> candidates = callKakaoKeywordSearch(
-                request.getPlaceName().trim(),
+        double centerLat = room.centerLat();
+        double centerLng = room.centerLng();
+        int radiusMeters = room.radiusMeters();
+        PlaceDetailResponse cachedDetail = placeDetailCache.get(
+                request.getProviderPlaceId(),
                 centerLat,
                 centerLng,
-                room.getRadiusMeters(),
-                15
+                () -> loadPlaceDetail(request, centerLat, centerLng, radiusMeters)
         );
-        if (candidates.isEmpty()) {
-            throw new NotFoundException("선택한 식당의 상세 정보를 찾을 수 없습니다");
+        if (cachedDetail != null) {
+            return Mono.just(cachedDetail);
         }
+        return loadPlaceDetail(request, centerLat, centerLng, radiusMeters);
+    }
+
+    /**
+     * 상세 캐시를 거치지 않고 카탈로그/카카오에서 상세를 만듭니다. soft TTL이 지난 상세의 백그라운드 갱신에도 쓰입니다.
+     */
+    private Mono<PlaceDetailResponse> loadPlaceDetail(
+            PlaceDetailRequest request,
+            double centerLat,
+            double centerLng,
+            int radiusMeters
+    ) {
+        Optional<PlaceSearchResponse.PlaceItem> cataloged =
+                placeCatalog.findFresh(request.getProviderPlaceId(), centerLat, centerLng);
+        if (cataloged.isPresent()) {
+            PlaceSearchResponse.PlaceItem matched = cataloged.get().toBuilder()
+                    .sourceKeyword(request.getPlaceName().trim())
+                    .build();
+            return resolveDetail(matched, centerLat, centerLng);
+        }
+
+        return cachedKakaoKeywordSearch(
+                        request.getPlaceName().trim(),
+                        centerLat,
+                        centerLng,
+                        radiusMeters,
+                        15
+                )
+                .map(CachedValue::value)
+                .flatMap(candidates -> {
+                    if (candidates.isEmpty()) {
+                        return Mono.error(new NotFoundException("선택한 식당의 상세 정보를 찾을 수 없습니다"));
+                    }
+                    PlaceSearchResponse.PlaceItem matched = matchCandidate(candidates, request);
+                    // providerPlaceId 없이 이름으로 들어온 요청도 매칭 결과가 캐시에 있으면 이미지 검색을 생략합니다.
+                    PlaceDetailResponse cachedMatch =
+                            placeDetailCache.getIfFresh(matched.getProviderPlaceId(), centerLat, centerLng);
+                    if (cachedMatch != null) {
+                        return Mono.just(cachedMatch);
+                    }
+                    return resolveDetail(matched, centerLat, centerLng);
+                });
+    }
+
+    private Mono<PlaceDetailResponse> resolveDetail(
+            PlaceSearchResponse.PlaceItem matched,
+            double centerLat,
+            double centerLng
+    ) {
+        return fetchImageUrls(
+                matched.getName(),
+                matched.getRoadAddress(),
+                matched.getAddress(),
+                matched.getPlaceUrl()
+        )
+                .map(imageUrls -> toPlaceDetail(matched, centerLat, centerLng, imageUrls))
+                // 이미지가 없는 결과는 캐시가 짧은 TTL로 보관하므로, 이미지 검색이 잠깐 실패했어도 오래 굳지 않습니다.
+                .doOnNext(placeDetailCache::put);
+    }
 
-        PlaceSearchResponse.PlaceItem matched = matchCandidate(candidates, request);
+    private PlaceDetailResponse toPlaceDetail(
+            PlaceSearchResponse.PlaceItem matched,
+            double centerLat,
+            double centerLng,
+            List<String> imageUrls
+    ) {
         Integer distanceMeters = matched.getDistanceMeters();
         if (distanceMeters == null || distanceMeters <= 0) {
-            distanceMeters = estimateDistanceMeters(
+            distanceMeters = GeoDistance.estimateMeters(
                     centerLat,
                     centerLng,
                     matched.getLatitude(),
                     matched.getLongitude()
             );
         }
-        List<String> imageUrls = fetchImageUrls(
-                matched.getName(),
-                matched.getRoadAddress(),
-                matched.getAddress(),
-                matched.getPlaceUrl()
-        );
 
         return PlaceDetailResponse.builder()
                 .provider(matched.getProvider())
@@ -174,9 +293,195 @@ public class PlaceSearchService {
                 .sourceKeyword(matched.getSourceKeyword())
                 .imageUrl(imageUrls.isEmpty() ? "" : imageUrls.get(0))
                 .imageUrls(imageUrls)
+                .freshness(PlaceFreshness.FRESH)
+                .ageSeconds(0L)
+                .build();
+    }
+
+    private SearchContext resolveSearchContext(UUID roomId, PlaceSearchRequest request) {
+        RoomSnapshot room = roomCache.getById(roomId);
+
+        double centerLat = request != null && request.getLatitude() != null
+                ? request.getLatitude()
+                : room.centerLat();
+        double centerLng = request != null && request.getLongitude() != null
+                ? request.getLongitude()
+                : room.centerLng();
+        int radiusMeters = request != null && request.getRadiusMeters() != null
+                ? request.getRadiusMeters()
+                : room.radiusMeters();
+        int sizePerKeyword = request != null && request.getSizePerKeyword() != null
+                ? request.getSizePerKeyword()
+                : DEFAULT_SIZE_PER_KEYWORD;
+
+        List<String> keywords = normalizeKeywords(request == null ? List.of() : request.getKeywords());
+        if (keywords.isEmpty()) {
+            keywords = readKeywordsFromLatestRecommendation(roomId);
+        }
+        if (keywords.isEmpty()) {
+            throw new BadRequestException("검색 키워드가 없습니다. keywords를 전달하거나 AI 추천을 먼저 생성해 주세요");
+        }
+
+        if (kakaoRestApiKey == null || kakaoRestApiKey.isBlank()) {
+            throw new BadRequestException("KAKAO_REST_API_KEY가 설정되지 않았습니다");
+        }
+        return new SearchContext(roomId, centerLat, centerLng, radiusMeters, sizePerKeyword, keywords);
+    }
+
+    private PlaceSearchResponse buildSearchResponse(SearchContext context, List<KeywordSearchResult> results) {
+        Map<String, PlaceSearchResponse.PlaceItem> merged = new LinkedHashMap<>();
+        List<String> missingKeywords = new ArrayList<>();
+        boolean stale = false;
+        long ageSeconds = 0;
+        for (KeywordSearchResult result : results) {
+            if (result.failed()) {
+                missingKeywords.add(result.keyword());
+                continue;
+            }
+            // 여러 키워드 결과를 합친 응답이므로 가장 오래된 결과를 기준으로 표시합니다.
+            stale |= result.stale();
+            ageSeconds = Math.max(ageSeconds, result.ageSeconds());
+            for (PlaceSearchResponse.PlaceItem item : result.items()) {
+                merged.putIfAbsent(placeKey(item), item);
+            }
+        }
+        if (missingKeywords.size() == context.keywords().size()) {
+            throw new KakaoApiException("카카오 장소 검색 호출 실패");
+        }
+
+        List<PlaceSearchResponse.PlaceItem> sorted = sortByDistance(merged.values());
+        List<PlaceSearchResponse.PlaceItem> places = sorted.subList(0, Math.min(MAX_RESULT_SIZE, sorted.size()));
+
+        // 커서는 첫 페이지가 이 중심/반경으로 카카오에서 받은 1페이지라고 보고 2페이지부터 이어 갑니다.
+        // 캐시/카탈로그 결과는 다른 중심에서 받았거나 1페이지와 다를 수 있으므로, 실패한 키워드와 함께 1페이지부터 다시 받고
+        // 이미 내려준 식당은 지문으로 거릅니다.
+        List<PlaceSearchCursor.KeywordPage> keywordPages = results.stream()
+                .map(result -> result.fetchedNow()
+                        ? PlaceSearchCursor.KeywordPage.afterFirstPage(
+                                result.keyword(), result.items().size(), context.sizePerKeyword())
+                        : PlaceSearchCursor.KeywordPage.firstPage(result.keyword()))
+                .toList();
+        String nextCursor = issueCursor(new PlaceSearchCursor(
+                context.roomId(),
+                context.centerLat(),
+                context.centerLng(),
+                context.radiusMeters(),
+                context.sizePerKeyword(),
+                keywordPages,
+                fingerprints(places, new long[0]),
+                List.copyOf(sorted.subList(places.size(), sorted.size()))
+        ));
+
+        return PlaceSearchResponse.builder()
+                .centerLat(context.centerLat())
+                .centerLng(context.centerLng())
+                .radiusMeters(context.radiusMeters())
+                .keywordsUsed(context.keywords())
+                .missingKeywords(missingKeywords)
+                .freshness(stale ? PlaceFreshness.STALE : PlaceFreshness.FRESH)
+                .ageSeconds(ageSeconds)
+                .places(places)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private PlaceSearchResponse buildNextPageResponse(PlaceSearchCursor cursor, List<PageResult> results) {
+        List<PlaceSearchResponse.PlaceItem> candidates = new ArrayList<>(cursor.carryOver());
+        List<String> missingKeywords = new ArrayList<>();
+        List<PlaceSearchCursor.KeywordPage> keywordPages = new ArrayList<>();
+        Map<String, PlaceSearchCursor.KeywordPage> advanced = new LinkedHashMap<>();
+        for (PageResult result : results) {
+            if (result.failed()) {
+                missingKeywords.add(result.page().keyword());
+                continue;
+            }
+            advanced.put(result.page().keyword(), result.page().advance(result.end()));
+            candidates.addAll(result.items());
+        }
+        if (!results.isEmpty() && missingKeywords.size() == results.size() && cursor.carryOver().isEmpty()) {
+            throw new KakaoApiException("카카오 장소 검색 호출 실패");
+        }
+        for (PlaceSearchCursor.KeywordPage page : cursor.keywords()) {
+            keywordPages.add(advanced.getOrDefault(page.keyword(), page));
+        }
+
+        Map<String, PlaceSearchResponse.PlaceItem> unseen = new LinkedHashMap<>();
+        for (PlaceSearchResponse.PlaceItem item : candidates) {
+            String key = placeKey(item);
+            if (!cursor.isSeen(PlaceSearchCursor.fingerprint(key))) {
+                unseen.putIfAbsent(key, item);
+            }
+        }
+        List<PlaceSearchResponse.PlaceItem> sorted = sortByDistance(unseen.values());
+        List<PlaceSearchResponse.PlaceItem> places = sorted.subList(0, Math.min(MAX_RESULT_SIZE, sorted.size()));
+
+        String nextCursor = issueCursor(new PlaceSearchCursor(
+                cursor.roomId(),
+                cursor.centerLat(),
+                cursor.centerLng(),
+                cursor.radiusMeters(),
+                cursor.sizePerKeyword(),
+                keywordPages,
+                fingerprints(places, cursor.seen()),
+                List.copyOf(sorted.subList(places.size(), sorted.size()))
+        ));
+
+        return PlaceSearchResponse.builder()
+                .centerLat(cursor.centerLat())
+                .centerLng(cursor.centerLng())
+                .radiusMeters(cursor.radiusMeters())
+                .keywordsUsed(cursor.keywords().stream().map(PlaceSearchCursor.KeywordPage::keyword).toList())
+                .missingKeywords(missingKeywords)
+                .freshness(PlaceFreshness.FRESH)
+                .ageSeconds(0L)
+                .places(places)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    private String issueCursor(PlaceSearchCursor cursor) {
+        return cursor.hasMore() ? placeSearchCursorCodec.encode(cursor) : null;
+    }
+
+    private long[] fingerprints(List<PlaceSearchResponse.PlaceItem> places, long[] seen) {
+        long[] added = places.stream()
+                .mapToLong(item -> PlaceSearchCursor.fingerprint(placeKey(item)))
+                .toArray();
+        return PlaceSearchCursor.merge(seen, added);
+    }
+
+    private List<PlaceSearchResponse.PlaceItem> sortByDistance(Collection<PlaceSearchResponse.PlaceItem> items) {
+        return items.stream()
+                .sorted(Comparator.comparing(item -> item.getDistanceMeters() == null ? Integer.MAX_VALUE : item.getDistanceMeters()))
+                .toList();
+    }
+
+    private String placeKey(PlaceSearchResponse.PlaceItem item) {
+        return item.getProviderPlaceId() == null || item.getProviderPlaceId().isBlank()
+                ? item.getName() + ":" + item.getLatitude() + ":" + item.getLongitude()
+                : item.getProviderPlaceId();
+    }
+
+    private void sendSearchChunk(SseEmitter emitter, KeywordSearchResult result, Set<String> sentPlaceKeys) {
+        List<PlaceSearchResponse.PlaceItem> fresh = result.items().stream()
+                .filter(item -> sentPlaceKeys.add(placeKey(item)))
+                .toList();
+        sendStreamEvent(emitter, "places", PlaceSearchChunkResponse.builder()
+                .keyword(result.keyword())
+                .failed(result.failed())
+                .places(fresh)
+                .build());
+    }
+
+    private void sendStreamEvent(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (Exception ex) {
+            // 클라이언트가 먼저 연결을 끊은 경우이므로 남은 전송은 무시합니다.
+            log.debug("장소 검색 스트림 전송 실패: event={}", event);
+        }
+    }
+
     private List<String> readKeywordsFromLatestRecommendation(UUID roomId) {
         try {
             MenuRecommendationResponse latest = aiRecommendationService.getLatestRecommendation(roomId);
@@ -209,116 +514,202 @@ public class PlaceSearchService {
         return new ArrayList<>(unique);
     }
 
-    private List<PlaceSearchResponse.PlaceItem> callKakaoKeywordSearch(
+    private Mono<KeywordSearchResult> searchKeyword(String keyword, SearchContext context) {
+        return cachedKakaoKeywordSearch(
+                        keyword,
+                        context.centerLat(),
+                        context.centerLng(),
+                        context.radiusMeters(),
+                        context.sizePerKeyword()
+                )
+                .map(cached -> KeywordSearchResult.success(keyword, cached))
+                .onErrorResume(ex -> {
+                    log.warn("카카오 장소 검색 일부 실패: keyword={}, reason={}", keyword, ex.getMessage());
+                    return Mono.just(KeywordSearchResult.failure(keyword));
+                });
+    }
+
+    /**
+     * 캐시 → 카탈로그 → 카카오 순으로 찾습니다. soft TTL이 지난 캐시 값은 바로 돌려주고 백그라운드에서 카카오로 갱신합니다.
+     */
+    private Mono<CachedValue<List<PlaceSearchResponse.PlaceItem>>> cachedKakaoKeywordSearch(
             String keyword,
             double centerLat,
             double centerLng,
             int radiusMeters,
             int sizePerKeyword
     ) {
-        try {
-            URI uri = UriComponentsBuilder
-                    .fromUriString(kakaoLocalSearchUrl)
-                    .queryParam("query", keyword)
-                    .queryParam("x", centerLng)
-                    .queryParam("y", centerLat)
-                    .queryParam("radius", radiusMeters)
-                    .queryParam("size", sizePerKeyword)
-                    .queryParam("sort", "distance")
-                    .queryParam("category_group_code", "FD6")
-                    .build()
-                    .encode()
-                    .toUri();
-
-            String rawResponse = webClient.get()
-                    .uri(uri)
-                    .header("Authorization", "KakaoAK " + kakaoRestApiKey)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, response ->
-                            response.bodyToMono(String.class)
-                                    .defaultIfEmpty("")
-                                    .flatMap(body -> Mono.error(new KakaoApiException("카카오 장소 검색 4xx 응답")))
-                    )
-                    .onStatus(HttpStatusCode::is5xxServerError, response ->
-                            response.bodyToMono(String.class)
-                                    .defaultIfEmpty("")
-                                    .flatMap(body -> Mono.error(new KakaoApiException("카카오 장소 검색 5xx 응답")))
-                    )
-                    .bodyToMono(String.class)
-                    .timeout(KAKAO_TIMEOUT)
-                    .block();
-
-            if (rawResponse == null || rawResponse.isBlank()) {
-                throw new KakaoApiException("카카오 장소 검색 응답이 비어 있습니다");
-            }
-            JsonNode root = objectMapper.readTree(rawResponse);
+        CachedValue<List<PlaceSearchResponse.PlaceItem>> cached = placeSearchCache.get(
+                keyword,
+                centerLat,
+                centerLng,
+                radiusMeters,
+                sizePerKeyword,
+                () -> fetchKakaoKeywordSearch(keyword, centerLat, centerLng, radiusMeters, sizePerKeyword)
+        );
+        if (cached != null) {
+            return Mono.just(new CachedValue<>(
+                    relocate(cached.value(), keyword, centerLat, centerLng, radiusMeters),
+                    cached.ageSeconds(),
+                    cached.stale()
+            ));
+        }
+        Optional<CachedValue<List<PlaceSearchResponse.PlaceItem>>> cataloged =
+                placeCatalog.search(keyword, centerLat, centerLng, radiusMeters, sizePerKeyword);
+        if (cataloged.isPresent()) {
+            return Mono.just(cataloged.get());
+        }
+        return fetchKakaoKeywordSearch(keyword, centerLat, centerLng, radiusMeters, sizePerKeyword)
+                .map(CachedValue::fresh);
+    }
 
-            JsonNode documents = root.path("documents");
-            if (!documents.isArray()) {
-                return List.of();
-            }
+    private Mono<List<PlaceSearchResponse.PlaceItem>> fetchKakaoKeywordSearch(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int sizePerKeyword
+    ) {
+        // 캐시 키의 반경 구간 전체로 조회해 두어야 같은 구간의 다른 반경 요청이 걸러 써도 됩니다.
+        // 결과는 거리순이므로 요청 반경으로 거르면 요청 반경으로 조회한 것과 같습니다.
+        int fetchRadius = PlaceSearchCache.radiusBucket(radiusMeters);
+        return keywordSearchSingleFlight.execute(keyword, centerLat, centerLng, fetchRadius, sizePerKeyword, () ->
+                        requestKakaoKeywordSearch(keyword, centerLat, centerLng, fetchRadius, sizePerKeyword)
+                                .doOnNext(items -> {
+                                    placeSearchCache.put(keyword, centerLat, centerLng, fetchRadius, sizePerKeyword, items);
+                                    placeCatalog.record(keyword, centerLat, centerLng, fetchRadius, sizePerKeyword, items);
+                                }))
+                .map(items -> withinRadius(items, radiusMeters));
+    }
 
-            List<PlaceSearchResponse.PlaceItem> items = new ArrayList<>();
-            for (JsonNode doc : documents) {
-                items.add(toPlaceItem(doc, keyword, centerLat, centerLng));
-            }
-            return items;
-        } catch (KakaoApiException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            log.error("카카오 장소 검색 실패: keyword={}, lat={}, lng={}", keyword, centerLat, centerLng, ex);
-            throw new KakaoApiException("카카오 장소 검색 호출 실패", ex);
-        }
+    /**
+     * 캐시 항목은 다른 중심 좌표로 조회된 결과일 수 있어 거리를 현재 중심 기준으로 다시 계산하고 재정렬합니다.
+     */
+    private List<PlaceSearchResponse.PlaceItem> relocate(
+            List<PlaceSearchResponse.PlaceItem> items,
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters
+    ) {
+        return items.stream()
+                .map(item -> {
+                    Integer distanceMeters = item.getLatitude() == null || item.getLongitude() == null
+                            ? item.getDistanceMeters()
+                            : GeoDistance.estimateMeters(centerLat, centerLng, item.getLatitude(), item.getLongitude());
+                    return item.toBuilder()
+                            .distanceMeters(distanceMeters)
+                            .sourceKeyword(keyword)
+                            .build();
+                })
+                .filter(item -> isWithinRadius(item, radiusMeters))
+                .sorted(Comparator.comparing(item -> item.getDistanceMeters() == null ? Integer.MAX_VALUE : item.getDistanceMeters()))
+                .toList();
     }
 
-    private Integer parseIntOrNull(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException ex) {
-            return null;
-        }
+    private List<PlaceSearchResponse.PlaceItem> withinRadius(List<PlaceSearchResponse.PlaceItem> items, int radiusMeters) {
+        return items.stream()
+                .filter(item -> isWithinRadius(item, radiusMeters))
+                .toList();
     }
 
-    private Double parseDoubleOrNull(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return Double.parseDouble(value);
-        } catch (NumberFormatException ex) {
-            return null;
+    private static boolean isWithinRadius(PlaceSearchResponse.PlaceItem item, int radiusMeters) {
+        return item.getDistanceMeters() != null && item.getDistanceMeters() <= radiusMeters;
+    }
+
+    private Mono<List<PlaceSearchResponse.PlaceItem>> requestKakaoKeywordSearch(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int sizePerKeyword
+    ) {
+        return requestKakaoKeywordSearch(keyword, centerLat, centerLng, radiusMeters, sizePerKeyword, 1,
+                buffer -> decodePlaces(buffer, keyword, centerLat, centerLng, sizePerKeyword));
+    }
+
+    private <T> Mono<T> requestKakaoKeywordSearch(
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int sizePerKeyword,
+            int page,
+            Function<DataBuffer, T> decoder
+    ) {
+        return Mono.defer(() -> {
+                    URI uri = UriComponentsBuilder
+                            .fromUriString(kakaoLocalSearchUrl)
+                            .queryParam("query", keyword)
+                            .queryParam("x", centerLng)
+                            .queryParam("y", centerLat)
+                            .queryParam("radius", radiusMeters)
+                            .queryParam("size", sizePerKeyword)
+                            .queryParam("page", page)
+                            .queryParam("sort", "distance")
+                            .queryParam("category_group_code", "FD6")
+                            .build()
+                            .encode()
+                            .toUri();
+
+                    return externalWebClients.kakaoDapi().get()
+                            .uri(uri)
+                            .header("Authorization", "KakaoAK " + kakaoRestApiKey)
+                            .retrieve()
+                            .onStatus(HttpStatusCode::is4xxClientError, response ->
+                                    response.bodyToMono(String.class)
+                                            .defaultIfEmpty("")
+                                            .flatMap(body -> Mono.error(new KakaoApiException(
+                                                    "카카오 장소 검색 4xx 응답", response.statusCode().value())))
+                            )
+                            .onStatus(HttpStatusCode::is5xxServerError, response ->
+                                    response.bodyToMono(String.class)
+                                            .defaultIfEmpty("")
+                                            .flatMap(body -> Mono.error(new KakaoApiException(
+                                                    "카카오 장소 검색 5xx 응답", response.statusCode().value())))
+                            )
+                            .bodyToFlux(DataBuffer.class)
+                            .as(DataBufferUtils::join)
+                            .timeout(KAKAO_TIMEOUT)
+                            .switchIfEmpty(Mono.error(new KakaoApiException("카카오 장소 검색 응답이 비어 있습니다")))
+                            .map(decoder)
+                            .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+                })
+                .transform(call -> upstreamGuards.kakaoDapi()
+                        .protect(call, UpstreamGuards::isKakaoFailure, UpstreamGuards::kakaoRejection))
+                .transform(upstreamHedging.kakaoKeywordSearch()::hedge)
+                .onErrorMap(ex -> !(ex instanceof KakaoApiException), ex -> {
+                    log.error("카카오 장소 검색 실패: keyword={}, lat={}, lng={}", keyword, centerLat, centerLng, ex);
+                    return new KakaoApiException("카카오 장소 검색 호출 실패", ex);
+                });
+    }
+
+    private List<PlaceSearchResponse.PlaceItem> decodePlaces(
+            DataBuffer buffer,
+            String keyword,
+            double centerLat,
+            double centerLng,
+            int limit
+    ) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return kakaoSearchResponseDecoder.decodePlaces(in, keyword, centerLat, centerLng, limit);
+        } catch (IOException ex) {
+            throw new KakaoApiException("카카오 장소 검색 응답 파싱 실패", ex);
         }
     }
 
-    private PlaceSearchResponse.PlaceItem toPlaceItem(
-            JsonNode doc,
+    private KakaoSearchResponseDecoder.PlacePage decodePlacePage(
+            DataBuffer buffer,
             String keyword,
             double centerLat,
-            double centerLng
+            double centerLng,
+            int limit
     ) {
-        Double lat = parseDoubleOrNull(doc.path("y").asText(null));
-        Double lng = parseDoubleOrNull(doc.path("x").asText(null));
-        Integer distanceMeters = parseIntOrNull(doc.path("distance").asText(null));
-        if (distanceMeters == null && lat != null && lng != null) {
-            distanceMeters = estimateDistanceMeters(centerLat, centerLng, lat, lng);
-        }
-        return PlaceSearchResponse.PlaceItem.builder()
-                .provider("kakao")
-                .providerPlaceId(doc.path("id").asText(""))
-                .name(doc.path("place_name").asText(""))
-                .category(doc.path("category_name").asText(""))
-                .address(doc.path("address_name").asText(""))
-                .roadAddress(doc.path("road_address_name").asText(""))
-                .phone(doc.path("phone").asText(""))
-                .distanceMeters(distanceMeters)
-                .latitude(lat)
-                .longitude(lng)
-                .placeUrl(doc.path("place_url").asText(""))
-                .sourceKeyword(keyword)
-                .build();
+        try (InputStream in = buffer.asInputStream(true)) {
+            return kakaoSearchResponseDecoder.decodePlacePage(in, keyword, centerLat, centerLng, limit);
+        } catch (IOException ex) {
+            throw new KakaoApiException("카카오 장소 검색 응답 파싱 실패", ex);
+        }
     }
 
     private PlaceSearchResponse.PlaceItem matchCandidate(
@@ -341,25 +732,7 @@ public class PlaceSearchService {
         return candidates.get(0);
     }
 
-    private Integer estimateDistanceMeters(double centerLat, double centerLng, Double placeLat, Double placeLng) {
-        if (placeLat == null || placeLng == null) {
-            return null;
-        }
-        return (int) Math.round(haversineMeters(centerLat, centerLng, placeLat, placeLng));
-    }
-
-    private double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        final double earthRadius = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return earthRadius * c;
-    }
-
-    private List<String> fetchImageUrls(String name, String roadAddress, String address, String placeUrl) {
+    private Mono<List<String>> fetchImageUrls(String name, String roadAddress, String address, String placeUrl) {
         List<String> queries = new ArrayList<>();
         queries.add(name + " 음식점");
         queries.add(name + " 맛집");
@@ -369,105 +742,188 @@ public class PlaceSearchService {
             queries.add(name + " " + address);
         }
 
-        LinkedHashSet<String> merged = new LinkedHashSet<>();
-        for (String query : queries) {
-            merged.addAll(searchImageUrlsByQuery(query));
-            if (merged.size() >= 5) {
-                break;
-            }
+        // 이미지 검색과 og:image 조회를 한꺼번에 시작하고, 앞 쿼리부터 5장이 모이거나 예산 시간이 지나면 남은 호출은 취소합니다.
+        ImageCollector collector = new ImageCollector(queries.size());
+        Mono<ImageBatch> ogImage = placeUrl == null || placeUrl.isBlank()
+                ? Mono.just(ImageBatch.ogImage(""))
+                : ogImageExtractor.extract(placeUrl).map(ImageBatch::ogImage);
+        Flux<ImageBatch> searches = Flux.range(0, queries.size())
+                .flatMap(slot -> searchImageUrlsByQuery(queries.get(slot))
+                        .map(urls -> ImageBatch.search(slot, urls)));
+
+        return Flux.merge(searches, ogImage)
+                .doOnNext(collector::accept)
+                .takeUntil(batch -> collector.isDone())
+                .take(imageLookupBudget)
+                .then(Mono.fromSupplier(collector::result));
+    }
+
+    private Mono<List<String>> searchImageUrlsByQuery(String query) {
+        return Mono.defer(() -> {
+                    URI uri = UriComponentsBuilder
+                            .fromUriString(kakaoImageSearchUrl)
+                            .queryParam("query", query)
+                            .queryParam("size", 10)
+                            .queryParam("sort", "accuracy")
+                            .build()
+                            .encode()
+                            .toUri();
+
+                    return externalWebClients.kakaoDapi().get()
+                            .uri(uri)
+                            .header("Authorization", "KakaoAK " + kakaoRestApiKey)
+                            .retrieve()
+                            .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+                                    .defaultIfEmpty("")
+                                    .flatMap(body -> Mono.error(new KakaoApiException(
+                                            "카카오 이미지 검색 실패", response.statusCode().value()))))
+                            .bodyToFlux(DataBuffer.class)
+                            .as(DataBufferUtils::join)
+                            .timeout(KAKAO_TIMEOUT)
+                            .map(this::decodeImageUrls)
+                            .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+                })
+                .transform(call -> upstreamGuards.kakaoDapi()
+                        .protect(call, UpstreamGuards::isKakaoFailure, UpstreamGuards::kakaoRejection))
+                .transform(upstreamHedging.kakaoImageSearch()::hedge)
+                .defaultIfEmpty(List.of())
+                .onErrorResume(ex -> {
+                    log.debug("이미지 검색 실패: query={}", query);
+                    return Mono.just(List.of());
+                });
+    }
+
+    private List<String> decodeImageUrls(DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return kakaoSearchResponseDecoder.decodeImageUrls(in, 5);
+        } catch (IOException ex) {
+            throw new KakaoApiException("카카오 이미지 검색 응답 파싱 실패", ex);
         }
+    }
 
-        if ((placeUrl != null && !placeUrl.isBlank()) && merged.isEmpty()) {
-            String ogImage = fetchOgImageFromPlaceUrl(placeUrl);
-            if (!ogImage.isBlank()) {
-                merged.add(ogImage);
-            }
+    private record SearchContext(
+            UUID roomId,
+            double centerLat,
+            double centerLng,
+            int radiusMeters,
+            int sizePerKeyword,
+            List<String> keywords
+    ) {
+    }
+
+    private record ImageBatch(int slot, List<String> urls) {
+
+        private static final int OG_IMAGE_SLOT = -1;
+
+        static ImageBatch search(int slot, List<String> urls) {
+            return new ImageBatch(slot, urls);
+        }
+
+        static ImageBatch ogImage(String url) {
+            return new ImageBatch(OG_IMAGE_SLOT, url.isBlank() ? List.of() : List.of(url));
+        }
+
+        boolean isOgImage() {
+            return slot == OG_IMAGE_SLOT;
         }
-        return new ArrayList<>(merged);
     }
 
-    private List<String> searchImageUrlsByQuery(String query) {
-        try {
-            URI uri = UriComponentsBuilder
-                    .fromUriString(kakaoImageSearchUrl)
-                    .queryParam("query", query)
-                    .queryParam("size", 10)
-                    .queryParam("sort", "accuracy")
-                    .build()
-                    .encode()
-                    .toUri();
-
-            String raw = webClient.get()
-                    .uri(uri)
-                    .header("Authorization", "KakaoAK " + kakaoRestApiKey)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
-                            .defaultIfEmpty("")
-                            .flatMap(body -> Mono.error(new KakaoApiException("카카오 이미지 검색 실패"))))
-                    .bodyToMono(String.class)
-                    .timeout(KAKAO_TIMEOUT)
-                    .block();
-            if (raw == null || raw.isBlank()) {
-                return List.of();
-            }
-            JsonNode root = objectMapper.readTree(raw);
-            JsonNode documents = root.path("documents");
-            if (!documents.isArray()) {
-                return List.of();
+    /**
+     * 이미지 검색 결과를 쿼리 순서대로 합칩니다. 기존 순차 조회와 같은 결과가 되도록, 앞 쿼리부터 빠짐없이 도착한 만큼만 보고
+     * 그 합이 5장 이상이 되는 쿼리까지의 이미지를 모두 씁니다(한 쿼리가 5장 넘게 주면 그대로 5장을 넘습니다).
+     * 뒤 쿼리가 먼저 도착해도 앞 쿼리를 기다리므로, 예산 시간 안에 끝나면 결과는 도착 순서와 관계없습니다.
+     * 예산 시간이 지나 끊긴 경우에만 그때까지 도착한 쿼리로 결과를 만듭니다.
+     * og:image는 이미지 검색이 모두 빈 결과일 때만 사용합니다. (merge가 onNext를 직렬화하므로 별도 동기화는 필요 없습니다.)
+     */
+    private static final class ImageCollector {
+
+        private static final int MAX_IMAGES = 5;
+
+        // 아직 도착하지 않은 쿼리는 null
+        private final List<List<String>> bySlot;
+        private int pendingSearches;
+        private boolean ogImageArrived;
+        private List<String> ogImage = List.of();
+
+        private ImageCollector(int searchCount) {
+            this.bySlot = new ArrayList<>(Collections.nCopies(searchCount, (List<String>) null));
+            this.pendingSearches = searchCount;
+        }
+
+        void accept(ImageBatch batch) {
+            if (batch.isOgImage()) {
+                ogImageArrived = true;
+                ogImage = batch.urls();
+                return;
             }
-            List<String> urls = new ArrayList<>();
-            for (JsonNode doc : documents) {
-                String imageUrl = normalizeImageUrl(doc.path("image_url").asText(""));
-                if (imageUrl.isBlank()) {
-                    imageUrl = normalizeImageUrl(doc.path("thumbnail_url").asText(""));
-                }
-                if (!imageUrl.isBlank() && !urls.contains(imageUrl)) {
-                    urls.add(imageUrl);
+            bySlot.set(batch.slot(), batch.urls());
+            pendingSearches--;
+        }
+
+        boolean isDone() {
+            Set<String> prefix = new HashSet<>();
+            for (List<String> urls : bySlot) {
+                if (urls == null) {
+                    return false;
                 }
-                if (urls.size() >= 5) {
-                    break;
+                prefix.addAll(urls);
+                if (prefix.size() >= MAX_IMAGES) {
+                    return true;
                 }
             }
-            return urls;
-        } catch (Exception ex) {
-            log.debug("이미지 검색 실패: query={}", query);
-            return List.of();
+            return pendingSearches == 0 && (!prefix.isEmpty() || ogImageArrived);
         }
-    }
 
-    private String fetchOgImageFromPlaceUrl(String placeUrl) {
-        try {
-            String html = webClient.get()
-                    .uri(placeUrl)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(KAKAO_TIMEOUT)
-                    .block();
-            if (html == null || html.isBlank()) {
-                return "";
+        List<String> result() {
+            LinkedHashSet<String> merged = new LinkedHashSet<>();
+            for (List<String> urls : bySlot) {
+                if (urls == null) {
+                    continue;
+                }
+                merged.addAll(urls);
+                if (merged.size() >= MAX_IMAGES) {
+                    break;
+                }
             }
-            Matcher matcher = OG_IMAGE_PATTERN.matcher(html);
-            if (!matcher.find()) {
-                return "";
+            if (merged.isEmpty()) {
+                merged.addAll(ogImage);
             }
-            return normalizeImageUrl(matcher.group(1));
-        } catch (Exception ex) {
-            log.debug("place og:image 조회 실패: url={}", placeUrl);
-            return "";
+            return List.copyOf(merged);
         }
     }
 
-    private String normalizeImageUrl(String url) {
-        if (url == null || url.isBlank()) {
-            return "";
+    private record PageResult(
+            PlaceSearchCursor.KeywordPage page,
+            List<PlaceSearchResponse.PlaceItem> items,
+            boolean end,
+            boolean failed
+    ) {
+
+        static PageResult success(PlaceSearchCursor.KeywordPage page, KakaoSearchResponseDecoder.PlacePage result) {
+            return new PageResult(page, result.places(), result.end(), false);
         }
-        String normalized = url.trim();
-        if (normalized.startsWith("//")) {
-            return "https:" + normalized;
+
+        static PageResult failure(PlaceSearchCursor.KeywordPage page) {
+            return new PageResult(page, List.of(), false, true);
         }
-        if (normalized.startsWith("http://")) {
-            return "https://" + normalized.substring("http://".length());
+    }
+
+    private record KeywordSearchResult(
+            String keyword,
+            List<PlaceSearchResponse.PlaceItem> items,
+            boolean failed,
+            long ageSeconds,
+            boolean stale,
+            boolean fetchedNow
+    ) {
+
+        static KeywordSearchResult success(String keyword, CachedValue<List<PlaceSearchResponse.PlaceItem>> cached) {
+            return new KeywordSearchResult(keyword, cached.value(), false, cached.ageSeconds(), cached.stale(),
+                    cached.fetchedNow());
+        }
+
+        static KeywordSearchResult failure(String keyword) {
+            return new KeywordSearchResult(keyword, List.of(), true, 0, false, false);
         }
-        return normalized;
     }
 }
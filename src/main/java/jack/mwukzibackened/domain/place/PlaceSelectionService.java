@@ -9,8 +9,9 @@ import jack.mwukzibackened.domain.place.dto.PlaceSelectionItemRequest;
 import jack.mwukzibackened.domain.place.dto.PlaceSelectionParticipantStatusResponse;
 import jack.mwukzibackened.domain.place.dto.PlaceSelectionSummaryResponse;
 import jack.mwukzibackened.domain.place.dto.RoulettePickResponse;
-import jack.mwukzibackened.domain.room.Room;
+import jack.mwukzibackened.domain.room.RoomCache;
 import jack.mwukzibackened.domain.room.RoomRepository;
+import jack.mwukzibackened.domain.room.RoomSnapshot;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,16 +27,19 @@ import java.util.UUID;
 public class PlaceSelectionService {
 
     private final RoomRepository roomRepository;
+    private final RoomCache roomCache;
     private final ParticipantRepository participantRepository;
     private final PlaceSelectionRepository placeSelectionRepository;
     private final SecureRandom random = new SecureRandom();
 
     public PlaceSelectionService(
             RoomRepository roomRepository,
+            RoomCache roomCache,
             ParticipantRepository participantRepository,
             PlaceSelectionRepository placeSelectionRepository
     ) {
         this.roomRepository = roomRepository;
+        this.roomCache = roomCache;
         this.participantRepository = participantRepository;
         this.placeSelectionRepository = placeSelectionRepository;
     }
@@ -47,8 +51,7 @@ public class PlaceSelectionService {
             UUID participantId,
             List<PlaceSelectionItemRequest> places
     ) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
         Participant actor = resolveActor(room, requesterUserId, participantId);
 
         List<NormalizedPlaceSelection> selectedPlaces = normalizePlaceSelections(places);
@@ -59,7 +62,7 @@ public class PlaceSelectionService {
         placeSelectionRepository.deleteByRoomIdAndParticipantId(roomId, actor.getId());
         List<PlaceSelection> rows = selectedPlaces.stream()
                 .map(selection -> PlaceSelection.builder()
-                        .room(room)
+                        .room(roomRepository.getReferenceById(room.id()))
                         .participant(actor)
                         .placeName(selection.placeName())
                         .providerPlaceId(selection.providerPlaceId())
@@ -75,16 +78,14 @@ public class PlaceSelectionService {
             UUID requesterUserId,
             UUID participantId
     ) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
         Participant actor = resolveActor(room, requesterUserId, participantId);
         return buildSummary(room, actor.getId());
     }
 
     public RoulettePickResponse spinRoulette(UUID roomId, UUID requesterUserId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
-        if (requesterUserId == null || !room.getHost().getId().equals(requesterUserId)) {
+        RoomSnapshot room = roomCache.getById(roomId);
+        if (requesterUserId == null || !room.isHost(requesterUserId)) {
             throw new UnauthorizedException("방장만 룰렛을 돌릴 수 있습니다");
         }
 
@@ -127,9 +128,9 @@ public class PlaceSelectionService {
                 .build();
     }
 
-    private PlaceSelectionSummaryResponse buildSummary(Room room, UUID actorParticipantId) {
-        List<Participant> participants = participantRepository.findByRoomId(room.getId());
-        Map<UUID, List<String>> selectionsByParticipant = buildSelectionMap(room.getId());
+    private PlaceSelectionSummaryResponse buildSummary(RoomSnapshot room, UUID actorParticipantId) {
+        List<Participant> participants = participantRepository.findByRoomId(room.id());
+        Map<UUID, List<String>> selectionsByParticipant = buildSelectionMap(room.id());
 
         List<PlaceSelectionParticipantStatusResponse> statuses = participants.stream()
                 .map(participant -> {
@@ -161,12 +162,12 @@ public class PlaceSelectionService {
                 .build();
     }
 
-    private Participant resolveActor(Room room, UUID requesterUserId, UUID participantId) {
+    private Participant resolveActor(RoomSnapshot room, UUID requesterUserId, UUID participantId) {
         if (requesterUserId != null) {
-            if (!room.getHost().getId().equals(requesterUserId)) {
+            if (!room.isHost(requesterUserId)) {
                 throw new UnauthorizedException("방장 인증이 올바르지 않습니다");
             }
-            return participantRepository.findByRoomIdAndUserId(room.getId(), requesterUserId)
+            return participantRepository.findByRoomIdAndUserId(room.id(), requesterUserId)
                     .orElseThrow(() -> new BadRequestException("방장 참여 정보가 없습니다"));
         }
 
@@ -175,7 +176,7 @@ public class PlaceSelectionService {
         }
         Participant participant = participantRepository.findById(participantId)
                 .orElseThrow(() -> new NotFoundException("참가자를 찾을 수 없습니다"));
-        if (!participant.getRoom().getId().equals(room.getId())) {
+        if (!participant.getRoom().getId().equals(room.id())) {
             throw new BadRequestException("방 정보가 올바르지 않습니다");
         }
         return participant;
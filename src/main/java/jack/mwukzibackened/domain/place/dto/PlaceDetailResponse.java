@@ -6,7 +6,7 @@ import lombok.Getter;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PlaceDetailResponse {
     private String provider;
     private String providerPlaceId;
@@ -22,4 +22,6 @@ public class PlaceDetailResponse {
     private String sourceKeyword;
     private String imageUrl;
     private List<String> imageUrls;
+    private PlaceFreshness freshness;
+    private Long ageSeconds;
 }
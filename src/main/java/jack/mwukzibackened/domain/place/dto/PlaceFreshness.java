@@ -0,0 +1,10 @@
+package jack.mwukzibackened.domain.place.dto;
+
+/**
+ * 응답 데이터의 신선도.
+ * STALE은 soft TTL이 지난 캐시 값을 먼저 돌려주고 백그라운드에서 갱신 중이라는 뜻입니다.
+ */
+public enum PlaceFreshness {
+    FRESH,
+    STALE
+}
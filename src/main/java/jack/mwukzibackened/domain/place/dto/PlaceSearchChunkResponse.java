@@ -0,0 +1,14 @@
+package jack.mwukzibackened.domain.place.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PlaceSearchChunkResponse {
+    private String keyword;
+    private boolean failed;
+    private List<PlaceSearchResponse.PlaceItem> places;
+}
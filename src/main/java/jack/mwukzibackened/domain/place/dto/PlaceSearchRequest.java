@@ -30,4 +30,7 @@ public class PlaceSearchRequest {
     private Integer sizePerKeyword;
 
     private List<String> keywords;
+
+    // 이전 응답의 next_cursor. 있으면 나머지 필드는 무시하고 다음 결과를 이어서 조회합니다.
+    private String cursor;
 }
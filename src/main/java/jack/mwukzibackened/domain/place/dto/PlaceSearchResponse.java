@@ -13,10 +13,15 @@ public class PlaceSearchResponse {
     private Double centerLng;
     private Integer radiusMeters;
     private List<String> keywordsUsed;
+    private List<String> missingKeywords;
+    private PlaceFreshness freshness;
+    private Long ageSeconds;
     private List<PlaceItem> places;
+    // 더 불러올 결과가 없으면 null
+    private String nextCursor;
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class PlaceItem {
         private String provider;
         private String providerPlaceId;
@@ -0,0 +1,97 @@
+package jack.mwukzibackened.domain.room;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * DB 조회 없이 겹치지 않는 초대 코드를 만듭니다.
+ *
+ * <p>인스턴스마다 DB 시퀀스(invite_code_block_seq)에서 카운터 블록({@value #BLOCK_SIZE}개)을 빌려 차례로 쓰고,
+ * 카운터를 {@link InviteCodePermutation}으로 섞어 코드로 바꿉니다. 시퀀스가 블록을 한 번씩만 내주고 순열이 일대일이므로
+ * 여러 인스턴스가 동시에 만들어도 코드가 겹치지 않습니다. DB 왕복은 블록을 빌릴 때만 있습니다.
+ * 재시작하면 쓰던 블록의 남은 카운터는 버려집니다. 시퀀스는 기동 시 없으면 만듭니다 (src/main/resources/db/invite_code_block_seq.sql).
+ *
+ * <p>순열 키(room.invite-code.key)는 모든 인스턴스가 같아야 하고 바꾸면 안 됩니다. 바꾸면 이미 나간 코드와 겹칠 수 있습니다.
+ * 그래서 다른 용도의 비밀 값(jwt.secret 등)을 빌려 쓰지 않고 전용 값(INVITE_CODE_KEY)을 씁니다.
+ * 설정의 기본값은 로컬 개발용이며, 배포 환경에서는 처음 띄울 때부터 INVITE_CODE_KEY를 설정해야 합니다.
+ */
+@Component
+public class InviteCodeGenerator {
+
+    static final int BLOCK_SIZE = 1024;
+    private static final String SEQUENCE_SCHEMA = "db/invite_code_block_seq.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InviteCodePermutation permutation;
+    private final LongSupplier blockLeaser;
+    private long next;
+    private long limit;
+
+    @Autowired
+    public InviteCodeGenerator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${room.invite-code.key}") String key
+    ) {
+        this(jdbcTemplate, new InviteCodePermutation(requireKey(key)), () -> leaseBlock(jdbcTemplate));
+    }
+
+    /**
+     * DB 없이 블록을 직접 주는 생성자. 시퀀스를 만들지 않습니다.
+     */
+    InviteCodeGenerator(InviteCodePermutation permutation, LongSupplier blockLeaser) {
+        this(null, permutation, blockLeaser);
+    }
+
+    private InviteCodeGenerator(JdbcTemplate jdbcTemplate, InviteCodePermutation permutation, LongSupplier blockLeaser) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.permutation = permutation;
+        this.blockLeaser = blockLeaser;
+    }
+
+    @PostConstruct
+    void ensureSequence() {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(SEQUENCE_SCHEMA))
+                .execute(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+    }
+
+    public String next() {
+        return permutation.encode(permutation.permute(nextCounter()));
+    }
+
+    private synchronized long nextCounter() {
+        if (next == limit) {
+            long block = blockLeaser.getAsLong();
+            next = block * BLOCK_SIZE;
+            limit = next + BLOCK_SIZE;
+        }
+        return next++;
+    }
+
+    private static String requireKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException(
+                    "room.invite-code.key(INVITE_CODE_KEY)가 비어 있습니다. 모든 인스턴스에 같은 값을 설정해 주세요");
+        }
+        return key;
+    }
+
+    private static long leaseBlock(JdbcTemplate jdbcTemplate) {
+        // nextval은 트랜잭션이 롤백돼도 되돌아가지 않으므로 방 생성 트랜잭션 안에서 불러도 블록이 중복되지 않습니다.
+        Long block = jdbcTemplate.queryForObject("SELECT nextval('invite_code_block_seq')", Long.class);
+        if (block == null) {
+            throw new IllegalStateException("초대 코드 블록을 받지 못했습니다");
+        }
+        return block;
+    }
+}
@@ -0,0 +1,80 @@
+package jack.mwukzibackened.domain.room;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 6자리 초대 코드 공간(36^6) 위의 키 기반 순열. 서로 다른 카운터는 항상 서로 다른 코드가 되고,
+ * 키를 모르면 연속한 카운터의 코드에서 다음 코드를 짐작할 수 없습니다.
+ *
+ * <p>32비트 값을 16비트 두 쪽으로 나눈 Feistel 네트워크로 [0, 2^32)를 섞고, 결과가 36^6 이상이면
+ * 범위 안에 들어올 때까지 다시 섞습니다(cycle walking). 2^32 / 36^6 ≈ 1.97이라 평균 두 번 이내로 끝납니다.
+ */
+final class InviteCodePermutation {
+
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    static final int LENGTH = 6;
+    static final long DOMAIN = 2_176_782_336L; // 36^6
+
+    private static final int ROUNDS = 8;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    InviteCodePermutation(String key) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-512").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-512를 사용할 수 없습니다", ex);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = buffer.getLong();
+        }
+    }
+
+    /**
+     * @param counter 0 이상 {@link #DOMAIN} 미만
+     * @return 같은 범위의 값. counter가 다르면 결과도 다릅니다
+     */
+    long permute(long counter) {
+        if (counter < 0 || counter >= DOMAIN) {
+            throw new IllegalArgumentException("초대 코드 카운터 범위를 벗어났습니다: " + counter);
+        }
+        long value = counter;
+        do {
+            value = feistel(value);
+        } while (value >= DOMAIN);
+        return value;
+    }
+
+    String encode(long value) {
+        char[] code = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(code);
+    }
+
+    private long feistel(long value) {
+        int left = (int) (value >>> 16) & 0xFFFF;
+        int right = (int) value & 0xFFFF;
+        for (long roundKey : roundKeys) {
+            int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 16) | right;
+    }
+
+    private static int round(int half, long roundKey) {
+        long h = (half ^ roundKey) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 32;
+        return (int) h & 0xFFFF;
+    }
+}
@@ -0,0 +1,22 @@
+package jack.mwukzibackened.domain.room;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 JVM 안에서만 전달하는 {@link RoomEventBus}. 인스턴스가 하나일 때 씁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "room.event-bus.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalRoomEventBus implements RoomEventBus {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(RoomEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
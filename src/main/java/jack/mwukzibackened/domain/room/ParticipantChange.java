@@ -0,0 +1,37 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
+
+import java.util.UUID;
+
+/**
+ * 참여자 스냅샷에 반영된 변경 한 건.
+ *
+ * @param baseVersion 변경 전 스냅샷 버전. 클라이언트는 자기 버전과 같을 때만 이 변경을 적용할 수 있습니다
+ * @param snapshot    변경이 반영된 스냅샷
+ * @param participant 변경된 참여자 (나가기면 null)
+ */
+public record ParticipantChange(
+        Type type,
+        long baseVersion,
+        ParticipantSnapshot snapshot,
+        UUID participantId,
+        RoomParticipantResponse participant
+) {
+
+    public enum Type {
+        JOINED("participant_joined"),
+        LEFT("participant_left"),
+        SUBMITTED("participant_submitted");
+
+        private final String event;
+
+        Type(String event) {
+            this.event = event;
+        }
+
+        public String event() {
+            return event;
+        }
+    }
+}
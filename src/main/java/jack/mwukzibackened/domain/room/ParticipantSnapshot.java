@@ -0,0 +1,35 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 방의 참여자 목록과 그 JSON 직렬화 결과. 변경될 때마다 새로 만들어지며 만들어진 뒤에는 바뀌지 않습니다.
+ *
+ * @param version 방 단위로 단조 증가하는 버전
+ * @param json    응답 본문/SSE data로 그대로 쓰는 직렬화 결과
+ * @param etag    json 내용으로 만든 ETag (따옴표 포함)
+ */
+public record ParticipantSnapshot(
+        UUID roomId,
+        long version,
+        List<RoomParticipantResponse> participants,
+        byte[] json,
+        String etag
+) {
+
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,194 @@
+package jack.mwukzibackened.domain.room;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 방별 참여자 목록 스냅샷 저장소. 참여/나가기/취향 제출이 커밋되면 DB를 다시 읽지 않고 메모리의 목록에 반영하고,
+ * JSON은 변경 시 한 번만 직렬화해 폴링 응답과 SSE 전송에 그대로 씁니다.
+ *
+ * <p>스냅샷이 없을 때만 loader로 DB에서 읽습니다. 다른 인스턴스에서 일어난 변경은 TTL이 지나 다시 읽을 때 반영됩니다.
+ * DB에서 읽는 동안 커밋된 변경은 스냅샷이 없어 반영할 곳이 없으므로, 방별 세대(generation)를 올려 두고
+ * 읽기를 시작한 뒤 세대가 바뀌었으면 읽은 목록을 버리고 다시 읽습니다.
+ */
+@Component
+public class ParticipantSnapshotStore {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final Cache<UUID, ParticipantSnapshot> snapshots;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    // 스냅샷이 버려졌다가 다시 만들어져도 버전이 뒤로 가지 않도록 방 구분 없이 하나의 카운터를 씁니다.
+    private final AtomicLong versions = new AtomicLong();
+    // 스냅샷이 없을 때 들어온 변경 횟수. 읽기 중인 방만 의미가 있으므로 스냅샷 TTL 동안만 남깁니다.
+    private final Cache<UUID, AtomicLong> generations;
+
+    public ParticipantSnapshotStore(
+            MeterRegistry meterRegistry,
+            @Value("${room.participants.snapshot-max-size:10000}") long maxSize,
+            @Value("${room.participants.snapshot-ttl:10m}") Duration ttl
+    ) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "room.participants");
+    }
+
+    public ParticipantSnapshot get(UUID roomId, Supplier<List<RoomParticipantResponse>> loader) {
+        ParticipantSnapshot cached = snapshots.getIfPresent(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        AtomicLong generation = generations.get(roomId, key -> new AtomicLong());
+        List<RoomParticipantResponse> participants = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long started = generation.get();
+            participants = loader.get();
+            List<RoomParticipantResponse> loaded = participants;
+            ParticipantSnapshot installed = snapshots.asMap().compute(roomId, (key, current) -> {
+                if (current != null) {
+                    return current;
+                }
+                // 읽는 동안 반영하지 못한 변경이 있었으면 이 목록은 이미 낡았을 수 있습니다.
+                return generation.get() == started ? snapshot(roomId, loaded) : null;
+            });
+            if (installed != null) {
+                return installed;
+            }
+        }
+        // 변경이 계속 몰리는 방. 이번 응답에만 쓰고 저장하지 않아 다음 조회에서 다시 읽습니다.
+        return snapshot(roomId, participants);
+    }
+
+    /**
+     * 참여자를 추가하거나 갱신합니다. 커밋 후 콜백 순서가 뒤바뀌어도 제출 완료가 미완료로 되돌아가지 않도록 합칩니다.
+     *
+     * @return 반영된 변경. 메모리에 스냅샷이 없으면 null (다음 조회 때 DB에서 읽습니다)
+     */
+    public ParticipantChange upsert(UUID roomId, ParticipantChange.Type type, RoomParticipantResponse participant) {
+        long[] baseVersion = new long[1];
+        RoomParticipantResponse[] applied = new RoomParticipantResponse[1];
+        ParticipantSnapshot updated = snapshots.asMap().compute(roomId, (key, current) -> {
+            if (current == null) {
+                missed(roomId);
+                return null;
+            }
+            List<RoomParticipantResponse> next = new ArrayList<>(current.participants().size() + 1);
+            boolean replaced = false;
+            for (RoomParticipantResponse existing : current.participants()) {
+                if (existing.getParticipantId().equals(participant.getParticipantId())) {
+                    applied[0] = merge(existing, participant);
+                    next.add(applied[0]);
+                    replaced = true;
+                } else {
+                    next.add(existing);
+                }
+            }
+            if (!replaced) {
+                applied[0] = participant;
+                next.add(participant);
+            }
+            baseVersion[0] = current.version();
+            return snapshot(roomId, next);
+        });
+        if (updated == null) {
+            return null;
+        }
+        return new ParticipantChange(type, baseVersion[0], updated, participant.getParticipantId(), applied[0]);
+    }
+
+    /**
+     * @return 반영된 변경. 메모리에 스냅샷이 없으면 null
+     */
+    public ParticipantChange remove(UUID roomId, UUID participantId) {
+        long[] baseVersion = new long[1];
+        ParticipantSnapshot updated = snapshots.asMap().compute(roomId, (key, current) -> {
+            if (current == null) {
+                missed(roomId);
+                return null;
+            }
+            baseVersion[0] = current.version();
+            return snapshot(
+                    roomId,
+                    current.participants().stream()
+                            .filter(existing -> !existing.getParticipantId().equals(participantId))
+                            .toList()
+            );
+        });
+        if (updated == null) {
+            return null;
+        }
+        return new ParticipantChange(ParticipantChange.Type.LEFT, baseVersion[0], updated, participantId, null);
+    }
+
+    public void invalidate(UUID roomId) {
+        snapshots.asMap().compute(roomId, (key, current) -> {
+            missed(roomId);
+            return null;
+        });
+    }
+
+    /**
+     * 스냅샷이 없어 변경을 반영하지 못했음을 기록합니다. 스냅샷 설치와 같은 compute 안에서 불러야
+     * 읽기 중인 {@link #get}이 이 변경을 놓치지 않습니다.
+     */
+    private void missed(UUID roomId) {
+        AtomicLong generation = generations.getIfPresent(roomId);
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private RoomParticipantResponse merge(RoomParticipantResponse existing, RoomParticipantResponse update) {
+        if (!existing.isHasSubmitted() || update.isHasSubmitted()) {
+            return update;
+        }
+        return RoomParticipantResponse.builder()
+                .participantId(update.getParticipantId())
+                .displayName(update.getDisplayName())
+                .role(update.getRole())
+                .hasSubmitted(true)
+                .build();
+    }
+
+    private ParticipantSnapshot snapshot(UUID roomId, List<RoomParticipantResponse> participants) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(participants);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("참여자 목록 직렬화 실패", ex);
+        }
+        return new ParticipantSnapshot(roomId, versions.incrementAndGet(), List.copyOf(participants), json, etagOf(json));
+    }
+
+    private static String etagOf(byte[] json) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : json) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
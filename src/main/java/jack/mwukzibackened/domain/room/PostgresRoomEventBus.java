@@ -0,0 +1,252 @@
+package jack.mwukzibackened.domain.room;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY로 다른 인스턴스에 방 이벤트를 전달하는 {@link RoomEventBus}.
+ *
+ * <p>이 인스턴스의 구독자에게는 호출 스레드에서 바로 전달하고, NOTIFY는 전용 스레드 하나에서 순서대로 보냅니다.
+ * 각 인스턴스는 LISTEN 전용 커넥션(커넥션 풀 밖)으로 알림을 받아 자기가 보낸 것을 뺀 나머지를 스프링 이벤트로 발행합니다.
+ * NOTIFY 본문 한도(8000바이트)를 넘는 이벤트는 room_event_payload 테이블에 넣고 id만 보냅니다.
+ * 테이블은 기동 시 {@link #start()}에서 만들고(src/main/resources/db/room_event_payload.sql), 만들 수 없으면 기동이 실패합니다.
+ *
+ * <p>LISTEN 커넥션은 알림만 기다리므로 TCP가 조용히 끊겨도 알아채지 못합니다. 그래서 keepalive-interval마다 SELECT 1을 보내고,
+ * 응답이 없거나(소켓 타임아웃) 실패하면 다시 연결합니다.
+ * LISTEN 연결이 끊긴 동안의 알림은 받지 못합니다. 그 사이 바뀐 참여자 목록은 스냅샷 TTL이 지나 DB에서 다시 읽을 때 맞춰집니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "room.event-bus.type", havingValue = "postgres")
+public class PostgresRoomEventBus implements RoomEventBus {
+
+    static final String CHANNEL = "room_events";
+    private static final String SCHEMA = "db/room_event_payload.sql";
+    // NOTIFY 본문 한도는 8000바이트. 봉투(origin, sent_at)를 감쌀 여유를 둡니다.
+    private static final int MAX_NOTIFY_BYTES = 7900;
+    private static final long MAX_RECONNECT_BACKOFF_MILLIS = 30_000;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String listenUrl;
+    private final String username;
+    private final String password;
+    private final Duration payloadRetention;
+    private final Duration keepaliveInterval;
+    private final ExecutorService notifier;
+    private final Thread listener;
+    private volatile boolean running = true;
+
+    private final Counter sent;
+    private final Counter spilled;
+    private final Counter failed;
+    private final Counter received;
+    private final Timer deliveryLag;
+
+    public PostgresRoomEventBus(
+            ApplicationEventPublisher eventPublisher,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${room.event-bus.postgres.listen-url:${spring.datasource.url}}") String listenUrl,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${room.event-bus.postgres.payload-retention:10m}") Duration payloadRetention,
+            @Value("${room.event-bus.postgres.keepalive-interval:10s}") Duration keepaliveInterval
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenUrl = listenUrl;
+        this.username = username;
+        this.password = password;
+        this.payloadRetention = payloadRetention;
+        this.keepaliveInterval = keepaliveInterval;
+        this.notifier = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-event-notify");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sent = meterRegistry.counter("room.event-bus.notify", "result", "sent");
+        this.spilled = meterRegistry.counter("room.event-bus.notify", "result", "spilled");
+        this.failed = meterRegistry.counter("room.event-bus.notify", "result", "failed");
+        this.received = meterRegistry.counter("room.event-bus.received");
+        // 보낸 인스턴스의 시계 기준이라 인스턴스 간 시계 차이만큼 오차가 있습니다.
+        this.deliveryLag = Timer.builder("room.event-bus.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.listener = new Thread(this::listen, "room-event-listen");
+        this.listener.setDaemon(true);
+    }
+
+    /**
+     * 큰 이벤트를 넣을 테이블을 먼저 만들고 LISTEN을 시작합니다.
+     * 테이블이 없으면 큰 이벤트만 조용히 전달되지 않으므로, 만들 수 없을 때는 기동을 실패시킵니다.
+     */
+    @PostConstruct
+    public void start() {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA))
+                .execute(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        listener.start();
+    }
+
+    @Override
+    public void publish(RoomEvent event) {
+        eventPublisher.publishEvent(event);
+        long sentAt = System.currentTimeMillis();
+        notifier.execute(() -> notifyOthers(event, sentAt));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listener.interrupt();
+        notifier.shutdown();
+    }
+
+    private void notifyOthers(RoomEvent event, long sentAt) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Envelope(nodeId, sentAt, event, null));
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_NOTIFY_BYTES) {
+                payload = objectMapper.writeValueAsString(new Envelope(nodeId, sentAt, null, spill(payload)));
+                spilled.increment();
+            }
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+            sent.increment();
+        } catch (Exception ex) {
+            failed.increment();
+            log.warn("방 이벤트 NOTIFY 실패: type={}, inviteCode={}, reason={}",
+                    event.type(), event.inviteCode(), ex.getMessage());
+        }
+    }
+
+    private long spill(String payload) {
+        // 큰 이벤트는 드물어서, 넣을 때마다 보관 기간이 지난 행을 함께 지웁니다.
+        jdbcTemplate.update("DELETE FROM room_event_payload WHERE created_at < now() - make_interval(secs => ?)",
+                payloadRetention.toSeconds());
+        Long id = jdbcTemplate.queryForObject(
+                "INSERT INTO room_event_payload (payload) VALUES (?) RETURNING id", Long.class, payload);
+        if (id == null) {
+            throw new IllegalStateException("room_event_payload id를 받지 못했습니다");
+        }
+        return id;
+    }
+
+    private void listen() {
+        long backoffMillis = 1_000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(listenUrl, listenProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("방 이벤트 LISTEN 시작: node={}", nodeId);
+                backoffMillis = 1_000;
+                long lastKeepaliveNanos = System.nanoTime();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(500);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                    if (System.nanoTime() - lastKeepaliveNanos >= keepaliveInterval.toNanos()) {
+                        keepalive(connection);
+                        lastKeepaliveNanos = System.nanoTime();
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("방 이벤트 LISTEN 연결 실패, {}ms 후 다시 연결: {}", backoffMillis, ex.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RECONNECT_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 끊긴 커넥션에서는 응답을 못 받아 socketTimeout이 지나면 SQLException이 나고, listen 루프가 다시 연결합니다.
+     */
+    private void keepalive(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private Properties listenProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        // 읽기가 이 시간 넘게 막히면 끊긴 것으로 봅니다 (pgjdbc socketTimeout, 초 단위)
+        properties.setProperty("socketTimeout", String.valueOf(Math.max(1, keepaliveInterval.multipliedBy(3).toSeconds())));
+        properties.setProperty("tcpKeepAlive", "true");
+        return properties;
+    }
+
+    private void receive(String payload) {
+        try {
+            Envelope envelope = objectMapper.readValue(payload, Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            RoomEvent event = envelope.event();
+            if (event == null && envelope.payloadId() != null) {
+                String stored = jdbcTemplate.queryForObject(
+                        "SELECT payload FROM room_event_payload WHERE id = ?", String.class, envelope.payloadId());
+                event = objectMapper.readValue(stored, Envelope.class).event();
+            }
+            if (event == null) {
+                return;
+            }
+            received.increment();
+            deliveryLag.record(Math.max(0, System.currentTimeMillis() - envelope.sentAt()), TimeUnit.MILLISECONDS);
+            eventPublisher.publishEvent(event);
+        } catch (Exception ex) {
+            log.warn("방 이벤트 수신 처리 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * NOTIFY 본문. event가 크면 payloadId로 room_event_payload 행을 가리킵니다.
+     */
+    record Envelope(String origin, long sentAt, RoomEvent event, Long payloadId) {
+    }
+}
@@ -0,0 +1,119 @@
+package jack.mwukzibackened.domain.room;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 단위 SSE 브로드캐스트 묶기. 변경이 생기면 방을 dirty로 표시만 하고, window 동안 추가 변경이 없으면 한 번 보냅니다.
+ * 변경이 계속 이어져도 첫 변경 후 max-delay가 지나면 보냅니다.
+ *
+ * <p>flush는 보내는 시점의 최신 상태를 읽어야 합니다. 대기 항목을 먼저 지운 뒤 flush를 실행하므로,
+ * 그 사이에 들어온 변경은 새 대기 항목이 되어 다음 flush로 전달됩니다.
+ */
+@Component
+@Slf4j
+public class RoomBroadcastCoalescer {
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final long maxDelayNanos;
+    private final Counter requested;
+    private final Counter coalesced;
+    private final Counter sent;
+
+    public RoomBroadcastCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${room.sse.coalesce-window:100ms}") Duration window,
+            @Value("${room.sse.coalesce-max-delay:500ms}") Duration maxDelay
+    ) {
+        this.windowNanos = window.toNanos();
+        this.maxDelayNanos = Math.max(windowNanos, maxDelay.toNanos());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.requested = meterRegistry.counter("room.sse.broadcast", "result", "requested");
+        this.coalesced = meterRegistry.counter("room.sse.broadcast", "result", "coalesced");
+        this.sent = meterRegistry.counter("room.sse.broadcast", "result", "sent");
+        Gauge.builder("room.sse.broadcast.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * @param key   묶을 단위 (초대 코드)
+     * @param flush 최신 상태를 읽어 보내는 작업. 같은 key의 대기 중인 flush는 마지막 것으로 대체됩니다.
+     */
+    public void submit(String key, Runnable flush) {
+        requested.increment();
+        if (windowNanos <= 0) {
+            run(key, flush);
+            return;
+        }
+        long now = System.nanoTime();
+        pending.compute(key, (ignored, current) -> {
+            if (current == null) {
+                Pending created = new Pending(now, flush);
+                created.future = scheduler.schedule(() -> flush(key, created), windowNanos, TimeUnit.NANOSECONDS);
+                return created;
+            }
+            coalesced.increment();
+            current.flush = flush;
+            long delay = Math.min(windowNanos, current.firstRequestedNanos + maxDelayNanos - now);
+            // 이미 실행 중이면 취소되지 않고, 실행 중인 flush가 이 변경까지 읽어 갑니다.
+            if (current.future.cancel(false)) {
+                current.future = scheduler.schedule(
+                        () -> flush(key, current),
+                        Math.max(0, delay),
+                        TimeUnit.NANOSECONDS
+                );
+            }
+            return current;
+        });
+    }
+
+    private void flush(String key, Pending target) {
+        if (!pending.remove(key, target)) {
+            return;
+        }
+        run(key, target.flush);
+    }
+
+    private void run(String key, Runnable flush) {
+        sent.increment();
+        try {
+            flush.run();
+        } catch (Exception ex) {
+            log.debug("SSE 브로드캐스트 실패: key={}", key, ex);
+        }
+    }
+
+    private static final class Pending {
+        private final long firstRequestedNanos;
+        private volatile Runnable flush;
+        private ScheduledFuture<?> future;
+
+        private Pending(long firstRequestedNanos, Runnable flush) {
+            this.firstRequestedNanos = firstRequestedNanos;
+            this.flush = flush;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package jack.mwukzibackened.domain.room;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jack.mwukzibackened.common.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 방 id / 초대 코드 → {@link RoomSnapshot} 조회 캐시.
+ * 방장, 중심 좌표, 반경, 만료 시각은 생성 후 바뀌지 않으므로 상태 변경이나 삭제 때만 {@link #invalidate}로 지웁니다.
+ * 다른 인스턴스에서 바뀐 상태는 TTL이 지나면 반영됩니다 (삭제는 방 이벤트 버스로 바로 반영됩니다).
+ */
+@Component
+public class RoomCache {
+
+    private final RoomRepository roomRepository;
+    private final Cache<UUID, RoomSnapshot> byId;
+    private final Cache<String, UUID> idByInviteCode;
+
+    public RoomCache(
+            RoomRepository roomRepository,
+            MeterRegistry meterRegistry,
+            @Value("${room.cache.max-size:10000}") long maxSize,
+            @Value("${room.cache.ttl:5m}") Duration ttl
+    ) {
+        this.roomRepository = roomRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByInviteCode = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "room");
+    }
+
+    public RoomSnapshot getById(UUID roomId) {
+        RoomSnapshot cached = byId.getIfPresent(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        Room room = roomRepository.findWithHostById(roomId)
+                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        return put(room);
+    }
+
+    /**
+     * @param inviteCode 정규화(trim + 대문자)된 초대 코드
+     */
+    public RoomSnapshot getByInviteCode(String inviteCode) {
+        UUID roomId = idByInviteCode.getIfPresent(inviteCode);
+        if (roomId != null) {
+            RoomSnapshot cached = byId.getIfPresent(roomId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Room room = roomRepository.findWithHostByInviteCode(inviteCode)
+                .orElseThrow(() -> new NotFoundException("초대 코드를 찾을 수 없습니다"));
+        return put(room);
+    }
+
+    public RoomSnapshot put(Room room) {
+        RoomSnapshot snapshot = RoomSnapshot.from(room);
+        byId.put(snapshot.id(), snapshot);
+        idByInviteCode.put(snapshot.inviteCode(), snapshot.id());
+        return snapshot;
+    }
+
+    /**
+     * 방 상태가 바뀌거나 삭제될 때 호출합니다. 트랜잭션 안이라면 커밋 전 값을 다른 요청이 다시 채워 넣을 수 있으므로
+     * 커밋 후에도 한 번 더 지웁니다.
+     */
+    public void invalidate(RoomSnapshot room) {
+        evict(room);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(room);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 삭제된 방을 지울 때 씁니다 ({@link RoomEvent.Type#ROOM_CLOSED}).
+     */
+    public void evict(UUID roomId, String inviteCode) {
+        byId.invalidate(roomId);
+        idByInviteCode.invalidate(inviteCode);
+    }
+
+    private void evict(RoomSnapshot room) {
+        evict(room.id(), room.inviteCode());
+    }
+}
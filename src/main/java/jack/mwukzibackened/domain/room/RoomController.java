@@ -13,6 +13,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,11 +24,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/rooms")
 @RequiredArgsConstructor
@@ -75,11 +76,11 @@ public class RoomController {
      */
     @GetMapping("/{roomId}/participants")
     @Operation(summary = "참여자 조회", description = "방 참여자 목록을 조회합니다. 인증이 필요 없습니다.")
-    public ResponseEntity<List<RoomParticipantResponse>> getParticipants(
-            @PathVariable java.util.UUID roomId
+    public ResponseEntity<byte[]> getParticipants(
+            @PathVariable java.util.UUID roomId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        List<RoomParticipantResponse> response = roomService.getParticipants(roomId);
-        return ResponseEntity.ok(response);
+        return participantsResponse(roomService.getParticipants(roomId), ifNoneMatch);
     }
 
     /**
@@ -88,26 +89,28 @@ public class RoomController {
      */
     @GetMapping("/participants")
     @Operation(summary = "참여자 조회(초대코드)", description = "초대 코드로 방 참여자 목록을 조회합니다.")
-    public ResponseEntity<List<RoomParticipantResponse>> getParticipantsByInviteCode(
-            @RequestParam String inviteCode
+    public ResponseEntity<byte[]> getParticipantsByInviteCode(
+            @RequestParam String inviteCode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        List<RoomParticipantResponse> response = roomService.getParticipantsByInviteCode(inviteCode);
-        return ResponseEntity.ok(response);
+        return participantsResponse(roomService.getParticipantsByInviteCode(inviteCode), ifNoneMatch);
     }
 
     /**
      * GET /api/v1/rooms/participants/stream?inviteCode=XXXXXX
-     * 참여자 목록 SSE 스트림
+     * 참여자 목록 SSE 스트림 (재연결 시 Last-Event-ID 이후 이벤트만 다시 전송)
+     * events=delta면 전체 목록 대신 participant_joined / participant_left / participant_submitted 변경 이벤트를 보냅니다.
      */
     @GetMapping(value = "/participants/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "참여자 SSE", description = "참여자 목록 변경을 SSE로 전달합니다.")
+    @Operation(summary = "참여자 SSE", description = "참여자 목록 변경을 SSE로 전달합니다. events=delta면 바뀐 참여자만 전달합니다.")
     public SseEmitter streamParticipants(
-            @RequestParam String inviteCode
+            @RequestParam String inviteCode,
+            @RequestParam(required = false) String events,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
-        SseEmitter emitter = roomSseService.subscribe(inviteCode);
-        List<RoomParticipantResponse> participants = roomService.getParticipantsByInviteCode(inviteCode);
-        roomSseService.sendParticipantsToEmitter(inviteCode, emitter, participants);
-        return emitter;
+        RoomEventFormat format = RoomEventFormat.from(events);
+        ParticipantSnapshot participants = roomService.getParticipantsByInviteCode(inviteCode);
+        return roomSseService.subscribe(inviteCode, format, participants, lastEventId);
     }
 
     /**
@@ -168,4 +171,15 @@ public class RoomController {
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<byte[]> participantsResponse(ParticipantSnapshot snapshot, String ifNoneMatch) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
+    }
 }
@@ -0,0 +1,54 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.domain.ai.dto.MenuRecommendationResponse;
+import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
+
+import java.util.UUID;
+
+/**
+ * {@link RoomEventBus}로 모든 인스턴스에 전달되는 방 이벤트. 각 인스턴스는 받은 이벤트를 자기 메모리 상태와 SSE 구독자에게 반영합니다.
+ * 다른 인스턴스로 보낼 때는 JSON으로 직렬화되므로 필요한 값만 담습니다.
+ *
+ * @param changeType  PARTICIPANT_CHANGED일 때 변경 종류
+ * @param participant PARTICIPANT_CHANGED(참여/제출)일 때 변경된 참여자
+ * @param participantId PARTICIPANT_CHANGED(나가기)일 때 나간 참여자
+ * @param recommendation RECOMMENDATION일 때 추천 결과
+ */
+public record RoomEvent(
+        Type type,
+        UUID roomId,
+        String inviteCode,
+        ParticipantChange.Type changeType,
+        RoomParticipantResponse participant,
+        UUID participantId,
+        MenuRecommendationResponse recommendation
+) {
+
+    public enum Type {
+        PARTICIPANT_CHANGED,
+        RECOMMENDATION,
+        ROOM_CLOSED
+    }
+
+    public static RoomEvent participantChanged(
+            RoomSnapshot room,
+            ParticipantChange.Type changeType,
+            RoomParticipantResponse participant
+    ) {
+        return new RoomEvent(Type.PARTICIPANT_CHANGED, room.id(), room.inviteCode(), changeType,
+                participant, participant.getParticipantId(), null);
+    }
+
+    public static RoomEvent participantLeft(RoomSnapshot room, UUID participantId) {
+        return new RoomEvent(Type.PARTICIPANT_CHANGED, room.id(), room.inviteCode(), ParticipantChange.Type.LEFT,
+                null, participantId, null);
+    }
+
+    public static RoomEvent recommendation(RoomSnapshot room, MenuRecommendationResponse recommendation) {
+        return new RoomEvent(Type.RECOMMENDATION, room.id(), room.inviteCode(), null, null, null, recommendation);
+    }
+
+    public static RoomEvent roomClosed(RoomSnapshot room) {
+        return new RoomEvent(Type.ROOM_CLOSED, room.id(), room.inviteCode(), null, null, null, null);
+    }
+}
@@ -0,0 +1,21 @@
+package jack.mwukzibackened.domain.room;
+
+/**
+ * 방 이벤트를 모든 인스턴스에 전달하는 통로. SSE 구독은 연결을 받은 인스턴스의 메모리에만 있으므로,
+ * 다른 인스턴스에서 일어난 변경도 이 버스를 거쳐야 구독자에게 닿습니다.
+ *
+ * <p>구현은 {@code room.event-bus.type}으로 고릅니다.
+ * <ul>
+ *     <li>{@code local} (기본값) - {@link LocalRoomEventBus}. 같은 JVM 안에서만 전달하며 인스턴스가 하나일 때 씁니다.</li>
+ *     <li>{@code postgres} - {@link PostgresRoomEventBus}. PostgreSQL LISTEN/NOTIFY로 다른 인스턴스에 전달합니다.</li>
+ * </ul>
+ * 어느 구현이든 받은 이벤트는 각 인스턴스에서 스프링 이벤트({@link RoomEvent})로 발행되고 {@link RoomService}가 반영합니다.
+ */
+public interface RoomEventBus {
+
+    /**
+     * 이 인스턴스에는 호출 스레드에서 바로, 다른 인스턴스에는 비동기로 전달합니다.
+     * DB 변경과 함께 보내는 이벤트는 커밋 뒤에 호출해야 다른 인스턴스가 커밋 전 데이터를 읽지 않습니다.
+     */
+    void publish(RoomEvent event);
+}
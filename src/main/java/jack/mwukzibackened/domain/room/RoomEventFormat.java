@@ -0,0 +1,23 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.common.exception.BadRequestException;
+
+/**
+ * 참여자 SSE 스트림의 이벤트 형식. 클라이언트가 {@code events} 파라미터로 고릅니다.
+ */
+public enum RoomEventFormat {
+    FULL,   // 변경마다 전체 참여자 목록 (participants) - 기존 클라이언트 기본값
+    DELTA;  // 바뀐 참여자만 (participant_joined / participant_left / participant_submitted)
+
+    public static RoomEventFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        for (RoomEventFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 이벤트 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,93 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.common.sse.SseFrame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 방에서 최근에 보낸 SSE 이벤트의 고정 크기 링 버퍼. 재연결한 클라이언트의 Last-Event-ID 이후 이벤트만 다시 보내는 데 씁니다.
+ * 이벤트 종류별 마지막 프레임은 링에서 밀려나도 따로 남겨 두어, 재전송이 불가능할 때 최신 상태를 다시 보내는 데 씁니다.
+ *
+ * <p>스레드 안전하지 않습니다. 호출하는 쪽에서 이 객체로 동기화합니다.
+ */
+class RoomEventLog {
+
+    private final SseFrame[] ring;
+    private final Map<String, SseFrame> latestByEvent = new HashMap<>();
+    private int head;
+    private int size;
+    // 이 id 이하의 이벤트는 링에 없습니다 (밀려났거나 로그가 만들어지기 전 이벤트).
+    private long floorId;
+    private long lastId;
+    // delta 스트림에서 마지막으로 내보낸 참여자 목록. 아직 없으면 null
+    private ParticipantSnapshot participants;
+
+    RoomEventLog(int capacity, long floorId) {
+        this.ring = new SseFrame[capacity];
+        this.floorId = floorId;
+        this.lastId = floorId;
+    }
+
+    void append(SseFrame frame) {
+        if (size == ring.length) {
+            floorId = ring[head].id();
+            ring[head] = frame;
+            head = (head + 1) % ring.length;
+        } else {
+            ring[(head + size) % ring.length] = frame;
+            size++;
+        }
+        lastId = frame.id();
+        latestByEvent.put(frame.event(), frame);
+    }
+
+    long lastId() {
+        return lastId;
+    }
+
+    long participantsVersion() {
+        return participants == null ? -1 : participants.version();
+    }
+
+    ParticipantSnapshot participants() {
+        return participants;
+    }
+
+    void updateParticipants(ParticipantSnapshot participants) {
+        this.participants = participants;
+    }
+
+    SseFrame latest(String event) {
+        return latestByEvent.get(event);
+    }
+
+    /**
+     * @return lastEventId 이후의 이벤트. 그 사이 이벤트가 링에서 밀려났거나 이 로그가 모르는 id면 null
+     */
+    List<SseFrame> since(long lastEventId) {
+        if (lastEventId < floorId || lastEventId > lastId) {
+            return null;
+        }
+        List<SseFrame> missed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SseFrame frame = ring[(head + i) % ring.length];
+            if (frame.id() > lastEventId) {
+                missed.add(frame);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * 이벤트 종류별 마지막 프레임을 id 순서로 반환합니다. 모든 이벤트가 전체 상태를 담고 있어 이것만으로 최신 상태가 됩니다.
+     */
+    List<SseFrame> latestState() {
+        List<SseFrame> frames = new ArrayList<>(latestByEvent.values());
+        frames.sort(Comparator.comparingLong(SseFrame::id));
+        return frames;
+    }
+}
@@ -1,8 +1,10 @@
 package jack.mwukzibackened.domain.room;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +12,11 @@ import java.util.UUID;
 public interface RoomRepository extends JpaRepository<Room, UUID> {
     Optional<Room> findByInviteCode(String inviteCode);
     boolean existsByInviteCode(String inviteCode);
+    boolean existsByInviteCodeAndCreatedAtBefore(String inviteCode, LocalDateTime createdAt);
+
+    @EntityGraph(attributePaths = "host")
+    Optional<Room> findWithHostById(UUID id);
+
+    @EntityGraph(attributePaths = "host")
+    Optional<Room> findWithHostByInviteCode(String inviteCode);
 }
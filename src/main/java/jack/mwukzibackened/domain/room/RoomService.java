@@ -13,13 +13,21 @@ import jack.mwukzibackened.domain.room.dto.ParticipantPreferenceResponse;
 import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
 import jack.mwukzibackened.domain.user.User;
 import jack.mwukzibackened.domain.user.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -35,12 +43,38 @@ public class RoomService {
     private final ParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final RoomSseService roomSseService;
+    private final RoomEventBus roomEventBus;
+    private final RoomCache roomCache;
+    private final ParticipantSnapshotStore participantSnapshots;
+    private final PlatformTransactionManager transactionManager;
+    private final RoomBroadcastCoalescer broadcastCoalescer;
+    private final InviteCodeGenerator inviteCodeGenerator;
 
-    private static final int INVITE_CODE_LENGTH = 6;
-    private static final String INVITE_CODE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int DEFAULT_RADIUS_METERS = 1500;
     private static final int DEFAULT_EXPIRES_HOURS = 6;
-    private final SecureRandom random = new SecureRandom();
+
+    // 무작위 방식 코드를 쓰던 DB에서 전환한 시각. 이 시각 이전에 만든 방과만 겹치는지 확인합니다.
+    // 새 방식 코드끼리는 겹치지 않습니다.
+    private LocalDateTime legacyInviteCodeCutover;
+
+    @Value("${room.invite-code.legacy-before:}")
+    void setLegacyInviteCodeCutover(String legacyBefore) {
+        this.legacyInviteCodeCutover = legacyBefore == null || legacyBefore.isBlank()
+                ? null
+                : LocalDateTime.parse(legacyBefore);
+    }
+
+    /**
+     * 전환 시각을 정하지 않았는데 이미 방이 있으면 무작위 방식으로 만든 방일 수 있으므로, 기동 시각을 전환 시각으로 삼아
+     * 그 전에 만든 방과 겹치는지 확인합니다. 빈 DB에서 시작했을 때만 확인을 건너뜁니다.
+     */
+    @PostConstruct
+    void enableLegacyInviteCodeCheck() {
+        if (legacyInviteCodeCutover == null && roomRepository.count() > 0) {
+            legacyInviteCodeCutover = LocalDateTime.now();
+            log.info("기존 방이 있어 초대 코드 중복 확인을 켭니다: legacy-before={}", legacyInviteCodeCutover);
+        }
+    }
 
     @Transactional
     public CreateRoomResponse createRoom(UUID userId, CreateRoomRequest request) {
@@ -68,6 +102,8 @@ public class RoomService {
                 .expiresAt(LocalDateTime.now().plusHours(DEFAULT_EXPIRES_HOURS))
                 .build();
         Room savedRoom = roomRepository.save(room);
+        // 커밋 전에 캐시에 넣으면 롤백되어도 다른 요청이 없는 방을 찾을 수 있습니다.
+        afterCommit(() -> roomCache.put(savedRoom));
 
         return CreateRoomResponse.builder()
                 .roomId(savedRoom.getId())
@@ -81,118 +117,82 @@ public class RoomService {
         String normalizedCode = inviteCode.trim().toUpperCase();
         String normalizedName = displayName.trim();
 
-        Room room = roomRepository.findByInviteCode(normalizedCode)
-                .orElseThrow(() -> new NotFoundException("초대 코드를 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getByInviteCode(normalizedCode);
 
-        if (room.isExpired() || room.getStatus() == RoomStatus.EXPIRED) {
-            room.updateStatus(RoomStatus.EXPIRED);
-            roomRepository.save(room);
+        if (room.isExpired()) {
+            Room entity = roomRepository.getReferenceById(room.id());
+            entity.updateStatus(RoomStatus.EXPIRED);
+            roomRepository.save(entity);
+            roomCache.invalidate(room);
             throw new BadRequestException("만료된 방입니다");
         }
 
-        if (participantRepository.existsByRoomIdAndDisplayName(room.getId(), normalizedName)) {
+        if (participantRepository.existsByRoomIdAndDisplayName(room.id(), normalizedName)) {
             throw new BadRequestException("이미 사용 중인 이름입니다");
         }
 
         Participant participant = Participant.builder()
-                .room(room)
+                .room(roomRepository.getReferenceById(room.id()))
                 .user(null)
                 .displayName(normalizedName)
                 .role(ParticipantRole.GUEST)
                 .build();
         Participant saved = participantRepository.save(participant);
+        publishUpsert(room, ParticipantChange.Type.JOINED, toResponse(saved));
 
-        participantRepository.findByRoomIdAndUserId(room.getId(), room.getHost().getId())
-                .orElseGet(() -> participantRepository.save(Participant.builder()
-                        .room(room)
-                        .user(room.getHost())
-                        .displayName(room.getHost().getNickname())
-                        .role(ParticipantRole.HOST)
-                        .build()));
+        findOrCreateHostParticipant(room);
 
         JoinRoomResponse response = JoinRoomResponse.builder()
-                .roomId(room.getId())
-                .inviteCode(room.getInviteCode())
+                .roomId(room.id())
+                .inviteCode(room.inviteCode())
                 .participantId(saved.getId())
                 .displayName(saved.getDisplayName())
-                .roomStatus(room.getStatus())
+                .roomStatus(room.status())
                 .build();
-        broadcastParticipants(room.getInviteCode());
         return response;
     }
 
-    @Transactional
-    public List<RoomParticipantResponse> getParticipants(UUID roomId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
-
-        participantRepository.findByRoomIdAndUserId(room.getId(), room.getHost().getId())
-                .orElseGet(() -> participantRepository.save(Participant.builder()
-                        .room(room)
-                        .user(room.getHost())
-                        .displayName(room.getHost().getNickname())
-                        .role(ParticipantRole.HOST)
-                        .build()));
-
-        return participantRepository.findByRoomId(room.getId()).stream()
-                .map(participant -> RoomParticipantResponse.builder()
-                        .participantId(participant.getId())
-                        .displayName(participant.getDisplayName())
-                        .role(participant.getRole())
-                        .hasSubmitted(Boolean.TRUE.equals(participant.getHasSubmitted()))
-                        .build())
-                .toList();
+    /**
+     * 메모리의 참여자 스냅샷을 반환합니다. 스냅샷이 있으면 DB 커넥션을 잡지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ParticipantSnapshot getParticipants(UUID roomId) {
+        return participantSnapshot(roomCache.getById(roomId));
     }
 
-    @Transactional
-    public List<RoomParticipantResponse> getParticipantsByInviteCode(String inviteCode) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ParticipantSnapshot getParticipantsByInviteCode(String inviteCode) {
         String normalized = inviteCode.trim().toUpperCase();
-        Room room = roomRepository.findByInviteCode(normalized)
-                .orElseThrow(() -> new NotFoundException("초대 코드를 찾을 수 없습니다"));
-
-        participantRepository.findByRoomIdAndUserId(room.getId(), room.getHost().getId())
-                .orElseGet(() -> participantRepository.save(Participant.builder()
-                        .room(room)
-                        .user(room.getHost())
-                        .displayName(room.getHost().getNickname())
-                        .role(ParticipantRole.HOST)
-                        .build()));
-
-        return participantRepository.findByRoomId(room.getId()).stream()
-                .map(participant -> RoomParticipantResponse.builder()
-                        .participantId(participant.getId())
-                        .displayName(participant.getDisplayName())
-                        .role(participant.getRole())
-                        .hasSubmitted(Boolean.TRUE.equals(participant.getHasSubmitted()))
-                        .build())
+        return participantSnapshot(roomCache.getByInviteCode(normalized));
+    }
+
+    private ParticipantSnapshot participantSnapshot(RoomSnapshot room) {
+        return participantSnapshots.get(room.id(), () -> {
+            // 커밋 후 콜백에서도 불리므로 항상 별도 트랜잭션에서 읽습니다.
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return transaction.execute(status -> loadParticipants(room));
+        });
+    }
+
+    private List<RoomParticipantResponse> loadParticipants(RoomSnapshot room) {
+        findOrCreateHostParticipant(room);
+
+        return participantRepository.findByRoomId(room.id()).stream()
+                .map(this::toResponse)
                 .toList();
     }
 
     @Transactional
     public RoomParticipantResponse ensureHostParticipant(UUID userId, UUID roomId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
 
-        if (!room.getHost().getId().equals(userId)) {
+        if (!room.isHost(userId)) {
             throw new UnauthorizedException("방장만 참여할 수 있습니다");
         }
 
-        Participant participant = participantRepository.findByRoomIdAndUserId(roomId, userId)
-                .orElseGet(() -> participantRepository.save(Participant.builder()
-                        .room(room)
-                        .user(room.getHost())
-                        .displayName(room.getHost().getNickname())
-                        .role(ParticipantRole.HOST)
-                        .build()));
-
-        RoomParticipantResponse response = RoomParticipantResponse.builder()
-                .participantId(participant.getId())
-                .displayName(participant.getDisplayName())
-                .role(participant.getRole())
-                .hasSubmitted(Boolean.TRUE.equals(participant.getHasSubmitted()))
-                .build();
-        broadcastParticipants(room.getInviteCode());
-        return response;
+        Participant participant = findOrCreateHostParticipant(room);
+        return toResponse(participant);
     }
 
     @Transactional
@@ -203,21 +203,14 @@ public class RoomService {
             List<String> chips,
             String freeText
     ) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
 
         Participant participant;
         if (userId != null) {
-            if (!room.getHost().getId().equals(userId)) {
+            if (!room.isHost(userId)) {
                 throw new UnauthorizedException("방장만 인증 기반 제출이 가능합니다");
             }
-            participant = participantRepository.findByRoomIdAndUserId(roomId, userId)
-                    .orElseGet(() -> participantRepository.save(Participant.builder()
-                            .room(room)
-                            .user(room.getHost())
-                            .displayName(room.getHost().getNickname())
-                            .role(ParticipantRole.HOST)
-                            .build()));
+            participant = findOrCreateHostParticipant(room);
         } else {
             if (participantId == null) {
                 throw new BadRequestException("participant_id가 필요합니다");
@@ -232,13 +225,8 @@ public class RoomService {
         participant.submitPreference(buildPreferenceText(chips, freeText));
         participant.updateLastSeen();
 
-        RoomParticipantResponse response = RoomParticipantResponse.builder()
-                .participantId(participant.getId())
-                .displayName(participant.getDisplayName())
-                .role(participant.getRole())
-                .hasSubmitted(Boolean.TRUE.equals(participant.getHasSubmitted()))
-                .build();
-        broadcastParticipants(room.getInviteCode());
+        RoomParticipantResponse response = toResponse(participant);
+        publishUpsert(room, ParticipantChange.Type.SUBMITTED, response);
         return response;
     }
 
@@ -247,12 +235,11 @@ public class RoomService {
             UUID roomId,
             UUID participantId
     ) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
 
         Participant participant = participantRepository.findById(participantId)
                 .orElseThrow(() -> new NotFoundException("참여자를 찾을 수 없습니다"));
-        if (!participant.getRoom().getId().equals(room.getId())) {
+        if (!participant.getRoom().getId().equals(room.id())) {
             throw new BadRequestException("방 정보가 올바르지 않습니다");
         }
 
@@ -266,16 +253,17 @@ public class RoomService {
 
     @Transactional
     public void leaveRoomAsHost(UUID userId, UUID roomId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new NotFoundException("방을 찾을 수 없습니다"));
+        RoomSnapshot room = roomCache.getById(roomId);
 
-        if (!room.getHost().getId().equals(userId)) {
+        if (!room.isHost(userId)) {
             throw new UnauthorizedException("방장만 방을 삭제할 수 있습니다");
         }
 
         participantRepository.deleteByRoomId(roomId);
-        roomRepository.delete(room);
-        roomSseService.closeRoom(room.getInviteCode());
+        roomRepository.deleteById(roomId);
+        roomCache.invalidate(room);
+        participantSnapshots.invalidate(roomId);
+        afterCommit(RoomEvent.roomClosed(room));
     }
 
     @Transactional
@@ -291,35 +279,119 @@ public class RoomService {
             throw new BadRequestException("방장은 이 방법으로 나갈 수 없습니다");
         }
 
-        String inviteCode = participant.getRoom().getInviteCode();
+        RoomSnapshot room = roomCache.getById(participant.getRoom().getId());
         participantRepository.delete(participant);
-        broadcastParticipants(inviteCode);
+        afterCommit(RoomEvent.participantLeft(room, participantId));
+    }
+
+    private void publishUpsert(RoomSnapshot room, ParticipantChange.Type type, RoomParticipantResponse participant) {
+        afterCommit(RoomEvent.participantChanged(room, type, participant));
     }
 
-    private void broadcastParticipants(String inviteCode) {
+    /**
+     * 커밋이 끝난 뒤 이벤트 버스로 모든 인스턴스에 알립니다. 롤백되면 아무것도 보내지 않습니다.
+     */
+    private void afterCommit(RoomEvent event) {
+        afterCommit(() -> roomEventBus.publish(event));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 이벤트 버스로 받은 방 이벤트를 이 인스턴스의 메모리 상태와 SSE 구독자에게 반영합니다.
+     * 변경을 만든 인스턴스와 다른 인스턴스 모두 이 메서드를 거칩니다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onRoomEvent(RoomEvent event) {
         try {
-            List<RoomParticipantResponse> participants = getParticipantsByInviteCode(inviteCode);
-            roomSseService.sendParticipants(inviteCode, participants);
+            switch (event.type()) {
+                case PARTICIPANT_CHANGED -> applyParticipantChange(event);
+                case RECOMMENDATION -> roomSseService.sendRecommendation(event.inviteCode(), event.recommendation());
+                case ROOM_CLOSED -> {
+                    roomCache.evict(event.roomId(), event.inviteCode());
+                    participantSnapshots.invalidate(event.roomId());
+                    roomSseService.closeRoom(event.inviteCode());
+                }
+            }
+        } catch (Exception ex) {
+            log.debug("방 이벤트 반영 실패: type={}, inviteCode={}", event.type(), event.inviteCode());
+        }
+    }
+
+    /**
+     * 스냅샷에 변경을 반영하고 SSE 브로드캐스트를 예약합니다. 짧은 시간에 몰린 변경은 한 번의 전송으로 묶입니다.
+     * delta 구독자에게는 변경 한 건이 작으므로 묶지 않고 바로 보냅니다.
+     */
+    private void applyParticipantChange(RoomEvent event) {
+        ParticipantChange change = event.changeType() == ParticipantChange.Type.LEFT
+                ? participantSnapshots.remove(event.roomId(), event.participantId())
+                : participantSnapshots.upsert(event.roomId(), event.changeType(), event.participant());
+        if (change != null && roomSseService.isActive(event.inviteCode(), RoomEventFormat.DELTA)) {
+            roomSseService.sendParticipantChange(event.inviteCode(), change);
+        }
+        broadcastCoalescer.submit(event.inviteCode(), () -> broadcastParticipants(event.roomId(), event.inviteCode()));
+    }
+
+    /**
+     * 전체 목록 구독자에게 현재 목록을 보내고, delta 구독자가 변경 이벤트를 놓쳤으면(메모리 스냅샷이 없었던 경우 등) 전체 목록으로 맞춥니다.
+     */
+    private void broadcastParticipants(UUID roomId, String inviteCode) {
+        try {
+            boolean full = roomSseService.isActive(inviteCode, RoomEventFormat.FULL);
+            boolean delta = roomSseService.isActive(inviteCode, RoomEventFormat.DELTA);
+            if (!full && !delta) {
+                return;
+            }
+            ParticipantSnapshot snapshot = participantSnapshot(roomCache.getById(roomId));
+            if (full) {
+                roomSseService.sendParticipants(inviteCode, snapshot);
+            }
+            if (delta) {
+                roomSseService.sendParticipantsSnapshot(inviteCode, snapshot);
+            }
         } catch (Exception ex) {
             log.debug("SSE 참여자 갱신 실패: inviteCode={}", inviteCode);
         }
     }
 
-    private String generateUniqueInviteCode() {
-        String code;
-        do {
-            code = generateInviteCode();
-        } while (roomRepository.existsByInviteCode(code));
-        return code;
+    private Participant findOrCreateHostParticipant(RoomSnapshot room) {
+        return participantRepository.findByRoomIdAndUserId(room.id(), room.hostUserId())
+                .orElseGet(() -> {
+                    Participant host = participantRepository.save(Participant.builder()
+                            .room(roomRepository.getReferenceById(room.id()))
+                            .user(userRepository.getReferenceById(room.hostUserId()))
+                            .displayName(room.hostNickname())
+                            .role(ParticipantRole.HOST)
+                            .build());
+                    publishUpsert(room, ParticipantChange.Type.JOINED, toResponse(host));
+                    return host;
+                });
+    }
+
+    private RoomParticipantResponse toResponse(Participant participant) {
+        return RoomParticipantResponse.builder()
+                .participantId(participant.getId())
+                .displayName(participant.getDisplayName())
+                .role(participant.getRole())
+                .hasSubmitted(Boolean.TRUE.equals(participant.getHasSubmitted()))
+                .build();
     }
 
-    private String generateInviteCode() {
-        StringBuilder builder = new StringBuilder(INVITE_CODE_LENGTH);
-        for (int i = 0; i < INVITE_CODE_LENGTH; i++) {
-            int index = random.nextInt(INVITE_CODE_CHARS.length());
-            builder.append(INVITE_CODE_CHARS.charAt(index));
+    private String generateUniqueInviteCode() {
+        String code = inviteCodeGenerator.next();
+        while (legacyInviteCodeCutover != null
+                && roomRepository.existsByInviteCodeAndCreatedAtBefore(code, legacyInviteCodeCutover)) {
+            code = inviteCodeGenerator.next();
         }
-        return builder.toString();
+        return code;
     }
 
     private String buildPreferenceText(List<String> chips, String freeText) {
@@ -0,0 +1,43 @@
+package jack.mwukzibackened.domain.room;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 방 조회 캐시에 담는 읽기 전용 사본. 방장 정보까지 함께 들고 있어 지연 로딩 없이 권한 확인이 가능합니다.
+ * 연관관계가 필요한 곳에서는 {@code roomRepository.getReferenceById(id)}로 프록시만 얻어 씁니다.
+ */
+public record RoomSnapshot(
+        UUID id,
+        String inviteCode,
+        UUID hostUserId,
+        String hostNickname,
+        double centerLat,
+        double centerLng,
+        int radiusMeters,
+        LocalDateTime expiresAt,
+        RoomStatus status
+) {
+
+    static RoomSnapshot from(Room room) {
+        return new RoomSnapshot(
+                room.getId(),
+                room.getInviteCode(),
+                room.getHost().getId(),
+                room.getHost().getNickname(),
+                room.getCenterLat().doubleValue(),
+                room.getCenterLng().doubleValue(),
+                room.getRadiusMeters(),
+                room.getExpiresAt(),
+                room.getStatus()
+        );
+    }
+
+    public boolean isHost(UUID userId) {
+        return hostUserId.equals(userId);
+    }
+
+    public boolean isExpired() {
+        return status == RoomStatus.EXPIRED || LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -1,85 +1,358 @@
 package jack.mwukzibackened.domain.room;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jack.mwukzibackened.common.sse.SseFanout;
+import jack.mwukzibackened.common.sse.SseFrame;
+import jack.mwukzibackened.common.sse.SseSubscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jack.mwukzibackened.domain.ai.dto.MenuRecommendationResponse;
-import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
-import lombok.extern.slf4j.Slf4j;
+import jack.mwukzibackened.domain.room.dto.ParticipantEventResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+/**
+ * 초대 코드별 SSE 구독 관리. 이벤트 직렬화와 전송은 {@link SseFanout}이 맡으므로 이 클래스의 메서드는 바로 반환됩니다.
+ * 끊긴 연결은 SseFanout의 하트비트가 찾아 정리하며, 그때 이 방의 구독 목록에서도 빠집니다.
+ *
+ * <p>모든 이벤트에는 증가하는 id가 붙고 방별 {@link RoomEventLog}에 남습니다. 재연결한 클라이언트가 Last-Event-ID를 보내면
+ * 놓친 이벤트만 다시 보내고, 링 버퍼 범위를 벗어났을 때만 최신 전체 상태를 보냅니다.
+ * 구독자가 모두 끊긴 방도 retention 동안은 이벤트를 계속 기록해 재연결에 대비합니다.
+ *
+ * <p>{@link RoomEventFormat#DELTA} 구독자는 전체 목록 대신 바뀐 참여자만 받습니다. 각 변경에는 version과 base_version이 붙으며,
+ * 스트림 안에서는 항상 이어지도록 이어지지 않는 변경(다른 인스턴스 변경, 스냅샷 재로딩 등)은 전체 목록(participants_snapshot)으로 대신 보냅니다.
+ * 클라이언트는 version이 자기 버전 이하면 무시하고, base_version이 자기 버전과 같으면 적용하고, 그 밖에는 전체 목록을 다시 받습니다.
+ */
 @Service
-@Slf4j
 public class RoomSseService {
 
-    private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private static final String PARTICIPANTS = "participants";
+    private static final String PARTICIPANTS_SNAPSHOT = "participants_snapshot";
+    private static final String RECOMMENDATION = "recommendation";
 
-    public SseEmitter subscribe(String inviteCode) {
-        SseEmitter emitter = new SseEmitter(0L);
-        emitters.computeIfAbsent(inviteCode, key -> new CopyOnWriteArrayList<>()).add(emitter);
+    private final SseFanout sseFanout;
+    private final Map<RoomEventFormat, Channel> channels = new EnumMap<>(RoomEventFormat.class);
+    private final int replayBufferSize;
+    // 재시작 후에도 id가 뒤로 가지 않도록 현재 시각(마이크로초 단위)에서 시작합니다.
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Counter resumed;
+    private final Counter resyncs;
+    private final Counter deltas;
+    private final Counter deltaSnapshots;
 
-        emitter.onCompletion(() -> removeEmitter(inviteCode, emitter));
-        emitter.onTimeout(() -> removeEmitter(inviteCode, emitter));
-        emitter.onError((ex) -> removeEmitter(inviteCode, emitter));
+    public RoomSseService(
+            SseFanout sseFanout,
+            MeterRegistry meterRegistry,
+            @Value("${room.sse.replay-buffer-size:32}") int replayBufferSize,
+            @Value("${room.sse.replay-retention:30m}") Duration replayRetention,
+            @Value("${room.sse.replay-max-rooms:10000}") long replayMaxRooms
+    ) {
+        this.sseFanout = sseFanout;
+        this.replayBufferSize = replayBufferSize;
+        for (RoomEventFormat format : RoomEventFormat.values()) {
+            channels.put(format, new Channel(Caffeine.newBuilder()
+                    .maximumSize(replayMaxRooms)
+                    .expireAfterAccess(replayRetention)
+                    .build()));
+        }
+        this.resumed = meterRegistry.counter("room.sse.reconnects", "result", "resumed");
+        this.resyncs = meterRegistry.counter("room.sse.reconnects", "result", "full-state");
+        this.deltas = meterRegistry.counter("room.sse.participant-events", "type", "delta");
+        this.deltaSnapshots = meterRegistry.counter("room.sse.participant-events", "type", "snapshot");
+        // 방별 태그는 방 수만큼 시계열이 늘어나므로, 방 수 / 전체 구독자 수 / 한 방의 최대 구독자 수로 요약합니다.
+        Gauge.builder("room.sse.rooms", this, RoomSseService::rooms).register(meterRegistry);
+        Gauge.builder("room.sse.subscribers", this, RoomSseService::totalSubscribers).register(meterRegistry);
+        Gauge.builder("room.sse.subscribers.max-per-room", this, RoomSseService::maxSubscribersPerRoom)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param participants 보낼 참여자 목록이 아직 기록되지 않은 방일 때 첫 이벤트로 쓸 현재 목록
+     * @param lastEventId  재연결 시 브라우저가 보내는 Last-Event-ID (없으면 null)
+     */
+    public SseEmitter subscribe(
+            String inviteCode,
+            RoomEventFormat format,
+            ParticipantSnapshot participants,
+            String lastEventId
+    ) {
+        Channel channel = channels.get(format);
+        SseSubscriber subscriber = sseFanout.subscribe(new SseEmitter(0L), closed -> channel.remove(inviteCode, closed));
+        RoomEventLog log = channel.eventLogs.get(inviteCode, key -> newEventLog());
+        Long resumeFrom = parseEventId(lastEventId);
+        synchronized (log) {
+            List<SseFrame> missed = resumeFrom == null ? null : log.since(resumeFrom);
+            if (missed != null) {
+                resumed.increment();
+                missed.forEach(subscriber::send);
+            } else {
+                if (resumeFrom != null) {
+                    resyncs.increment();
+                }
+                if (format == RoomEventFormat.DELTA) {
+                    sendDeltaState(log, subscriber, participants);
+                } else {
+                    sendLatestState(log, subscriber, participants);
+                }
+            }
+            // 로그에 동기화한 상태로 등록하므로, 위에서 보낸 이벤트와 이후 publish 사이에 빠지거나 겹치는 이벤트가 없습니다.
+            channel.add(inviteCode, subscriber);
+            // 등록 전에 끊긴 구독자는 닫힘 콜백의 제거가 이미 지나갔으므로 여기서 뺍니다.
+            // closed 표시가 콜백보다 먼저라, 콜백이 등록보다 늦으면 콜백이, 빠르면 이 확인이 제거합니다.
+            if (subscriber.isClosed()) {
+                channel.remove(inviteCode, subscriber);
+            }
+        }
+        return subscriber.emitter();
+    }
 
-        return emitter;
+    /**
+     * 해당 형식으로 구독 중이거나 재연결을 기다리는 클라이언트가 있어 이벤트를 보내고 기록해야 하는 방인지 확인합니다.
+     */
+    public boolean isActive(String inviteCode, RoomEventFormat format) {
+        return channels.get(format).isActive(inviteCode);
     }
 
-    public void sendParticipants(String inviteCode, List<RoomParticipantResponse> participants) {
-        send(inviteCode, "participants", participants);
+    /**
+     * 미리 직렬화된 참여자 목록을 그대로 보냅니다. 구독자 수와 관계없이 직렬화는 스냅샷을 만들 때 한 번뿐입니다.
+     */
+    public void sendParticipants(String inviteCode, ParticipantSnapshot snapshot) {
+        publish(RoomEventFormat.FULL, inviteCode, log -> nextCollapsibleFrame(PARTICIPANTS, snapshot.json()));
     }
 
-    public void sendParticipantsToEmitter(
-            String inviteCode,
-            SseEmitter emitter,
-            List<RoomParticipantResponse> participants
-    ) {
-        sendToEmitter(inviteCode, emitter, "participants", participants);
+    /**
+     * delta 구독자에게 참여자 변경 한 건을 보냅니다. 이미 보낸 버전에서 이어지지 않으면 변경 대신 전체 목록을 보냅니다.
+     */
+    public void sendParticipantChange(String inviteCode, ParticipantChange change) {
+        publish(RoomEventFormat.DELTA, inviteCode, log -> {
+            long published = log.participantsVersion();
+            long version = change.snapshot().version();
+            if (version <= published) {
+                // 커밋 후 콜백 순서가 뒤바뀐 경우. 이 변경이 포함된 목록을 이미 보냈습니다.
+                return null;
+            }
+            log.updateParticipants(change.snapshot());
+            if (change.baseVersion() != published) {
+                deltaSnapshots.increment();
+                return nextFrame(PARTICIPANTS_SNAPSHOT, snapshotJson(change.snapshot()));
+            }
+            deltas.increment();
+            return nextFrame(change.type().event(), sseFanout.serialize(ParticipantEventResponse.builder()
+                    .version(version)
+                    .baseVersion(change.baseVersion())
+                    .participantId(change.participantId())
+                    .participant(change.participant())
+                    .build()));
+        });
+    }
+
+    /**
+     * delta 구독자가 받은 목록이 스냅샷보다 뒤처져 있을 때만 전체 목록을 보냅니다.
+     * 변경 이벤트를 만들 수 없었던 경우(메모리 스냅샷이 없었던 경우 등)를 메우는 용도라, 이미 따라잡았으면 아무것도 보내지 않습니다.
+     */
+    public void sendParticipantsSnapshot(String inviteCode, ParticipantSnapshot snapshot) {
+        publish(RoomEventFormat.DELTA, inviteCode, log -> {
+            if (snapshot.version() <= log.participantsVersion()) {
+                return null;
+            }
+            log.updateParticipants(snapshot);
+            deltaSnapshots.increment();
+            return nextFrame(PARTICIPANTS_SNAPSHOT, snapshotJson(snapshot));
+        });
     }
 
     public void sendRecommendation(String inviteCode, MenuRecommendationResponse recommendation) {
-        send(inviteCode, "recommendation", recommendation);
+        byte[] json = null;
+        for (RoomEventFormat format : RoomEventFormat.values()) {
+            if (!isActive(inviteCode, format)) {
+                continue;
+            }
+            if (json == null) {
+                json = sseFanout.serialize(recommendation);
+            }
+            byte[] data = json;
+            publish(format, inviteCode, log -> nextFrame(RECOMMENDATION, data));
+        }
     }
 
     public void closeRoom(String inviteCode) {
-        send(inviteCode, "room_closed", List.of());
-        CopyOnWriteArrayList<SseEmitter> list = emitters.remove(inviteCode);
-        if (list != null) {
-            list.forEach(SseEmitter::complete);
+        byte[] data = sseFanout.serialize(List.of());
+        for (RoomEventFormat format : RoomEventFormat.values()) {
+            publish(format, inviteCode, log -> nextFrame("room_closed", data));
+            Channel channel = channels.get(format);
+            channel.eventLogs.invalidate(inviteCode);
+            CopyOnWriteArrayList<SseSubscriber> list = channel.subscribers.remove(inviteCode);
+            if (list != null) {
+                list.forEach(SseSubscriber::completeAfterDrain);
+            }
         }
     }
 
-    private void send(String inviteCode, String event, Object data) {
-        CopyOnWriteArrayList<SseEmitter> list = emitters.get(inviteCode);
-        if (list == null || list.isEmpty()) {
-            return;
+    private void sendLatestState(RoomEventLog log, SseSubscriber subscriber, ParticipantSnapshot participants) {
+        if (log.latest(PARTICIPANTS) == null) {
+            // 아직 참여자 이벤트가 기록되지 않은 방. 로그의 마지막 id를 붙여 다음 재연결의 기준으로 삼습니다.
+            subscriber.send(SseFrame.collapsible(log.lastId(), PARTICIPANTS, participants.json()));
         }
+        log.latestState().forEach(subscriber::send);
+    }
 
-        for (SseEmitter emitter : list) {
-            sendToEmitter(inviteCode, emitter, event, data);
+    /**
+     * delta 로그의 참여자 이벤트는 변경분뿐이라 전체 상태가 되지 않으므로, 현재 스냅샷을 전체 목록으로 보냅니다.
+     * participants는 로그 잠금 전에 읽은 값이라, 그 사이 변경이 기록됐다면 로그가 마지막으로 내보낸 목록이 더 새롭습니다.
+     * 둘 중 새 것을 log.lastId()로 보내야 그 변경이 빠지지 않습니다.
+     * 스냅샷이 로그보다 앞서 있어도 클라이언트는 version 이하의 변경을 무시하므로 어긋나지 않습니다.
+     */
+    private void sendDeltaState(RoomEventLog log, SseSubscriber subscriber, ParticipantSnapshot participants) {
+        ParticipantSnapshot published = log.participants();
+        ParticipantSnapshot latest = published != null && published.version() > participants.version()
+                ? published
+                : participants;
+        subscriber.send(SseFrame.of(log.lastId(), PARTICIPANTS_SNAPSHOT, snapshotJson(latest)));
+        SseFrame recommendation = log.latest(RECOMMENDATION);
+        if (recommendation != null) {
+            subscriber.send(recommendation);
         }
     }
 
-    private void sendToEmitter(String inviteCode, SseEmitter emitter, String event, Object data) {
+    /**
+     * 로그에 동기화한 상태에서 frameFactory로 이벤트를 만들어 기록하고 보냅니다. frameFactory가 null을 반환하면 보내지 않습니다.
+     * 구독자 목록은 잠금 안에서 다시 읽습니다. 잠금 전에 읽은 목록으로 보내면 그 사이 (재)구독해 로그를 받은 클라이언트가
+     * 이 이벤트를 로그로도, 전송으로도 받지 못합니다.
+     */
+    private void publish(RoomEventFormat format, String inviteCode, Function<RoomEventLog, SseFrame> frameFactory) {
+        Channel channel = channels.get(format);
+        // 로그를 새로 만들지만 잠금 밖에서 정합니다. 구독자가 없으면 재연결을 기다리는 로그가 있을 때만 기록합니다.
+        RoomEventLog log = channel.hasSubscribers(inviteCode)
+                ? channel.eventLogs.get(inviteCode, key -> newEventLog())
+                : channel.eventLogs.getIfPresent(inviteCode);
+        if (log == null) {
+            return;
+        }
+        synchronized (log) {
+            SseFrame frame = frameFactory.apply(log);
+            if (frame == null) {
+                return;
+            }
+            log.append(frame);
+            CopyOnWriteArrayList<SseSubscriber> list = channel.subscribers.get(inviteCode);
+            if (list != null && !list.isEmpty()) {
+                sseFanout.publish(list, frame);
+            }
+        }
+    }
+
+    private SseFrame nextFrame(String event, byte[] data) {
+        return SseFrame.of(eventIds.incrementAndGet(), event, data);
+    }
+
+    /**
+     * 전체 참여자 목록처럼 새 프레임이 이전 것을 대체하는 이벤트. 느린 구독자의 대기열에서는 최신 것만 남습니다.
+     */
+    private SseFrame nextCollapsibleFrame(String event, byte[] data) {
+        return SseFrame.collapsible(eventIds.incrementAndGet(), event, data);
+    }
+
+    private RoomEventLog newEventLog() {
+        return new RoomEventLog(replayBufferSize, eventIds.get());
+    }
+
+    /**
+     * {"version":N,"participants":[...]} 형태. 참여자 목록은 스냅샷의 직렬화 결과를 그대로 이어 붙입니다.
+     */
+    private static byte[] snapshotJson(ParticipantSnapshot snapshot) {
+        byte[] head = ("{\"version\":" + snapshot.version() + ",\"participants\":").getBytes(StandardCharsets.UTF_8);
+        byte[] json = snapshot.json();
+        byte[] bytes = new byte[head.length + json.length + 1];
+        System.arraycopy(head, 0, bytes, 0, head.length);
+        System.arraycopy(json, 0, bytes, head.length, json.length);
+        bytes[bytes.length - 1] = '}';
+        return bytes;
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
         try {
-            emitter.send(SseEmitter.event().name(event).data(data));
-        } catch (Exception ex) {
-            // IOException 외 IllegalStateException 등도 발생할 수 있어 안전하게 정리합니다.
-            log.debug("SSE 전송 실패: inviteCode={}, event={}", inviteCode, event, ex);
-            removeEmitter(inviteCode, emitter);
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            return null;
         }
     }
 
-    private void removeEmitter(String inviteCode, SseEmitter emitter) {
-        CopyOnWriteArrayList<SseEmitter> list = emitters.get(inviteCode);
-        if (list == null) {
-            return;
+    private double rooms() {
+        Set<String> inviteCodes = new HashSet<>();
+        channels.values().forEach(channel -> inviteCodes.addAll(channel.subscribers.keySet()));
+        return inviteCodes.size();
+    }
+
+    private double totalSubscribers() {
+        return channels.values().stream()
+                .flatMap(channel -> channel.subscribers.values().stream())
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    private double maxSubscribersPerRoom() {
+        Map<String, Integer> perRoom = new HashMap<>();
+        channels.values().forEach(channel -> channel.subscribers.forEach(
+                (inviteCode, list) -> perRoom.merge(inviteCode, list.size(), Integer::sum)));
+        return perRoom.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * 이벤트 형식 하나의 방별 구독자와 이벤트 로그.
+     */
+    private static final class Channel {
+
+        private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+        private final Cache<String, RoomEventLog> eventLogs;
+
+        private Channel(Cache<String, RoomEventLog> eventLogs) {
+            this.eventLogs = eventLogs;
+        }
+
+        private boolean hasSubscribers(String inviteCode) {
+            CopyOnWriteArrayList<SseSubscriber> list = subscribers.get(inviteCode);
+            return list != null && !list.isEmpty();
         }
-        list.remove(emitter);
-        if (list.isEmpty()) {
-            emitters.remove(inviteCode);
+
+        private boolean isActive(String inviteCode) {
+            return hasSubscribers(inviteCode) || eventLogs.asMap().containsKey(inviteCode);
+        }
+
+        /**
+         * 추가와 제거를 모두 compute 안에서 해, 빈 목록을 지우는 순간 다른 구독자가 그 목록에 추가되어 함께 사라지는 일이 없게 합니다.
+         */
+        private void add(String inviteCode, SseSubscriber subscriber) {
+            subscribers.compute(inviteCode, (key, list) -> {
+                CopyOnWriteArrayList<SseSubscriber> target = list == null ? new CopyOnWriteArrayList<>() : list;
+                target.add(subscriber);
+                return target;
+            });
+        }
+
+        private void remove(String inviteCode, SseSubscriber subscriber) {
+            subscribers.computeIfPresent(inviteCode, (key, list) -> {
+                list.remove(subscriber);
+                return list.isEmpty() ? null : list;
+            });
         }
     }
 }
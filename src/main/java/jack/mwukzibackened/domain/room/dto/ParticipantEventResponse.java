@@ -0,0 +1,18 @@
+package jack.mwukzibackened.domain.room.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 참여자 변경(delta) SSE 이벤트 본문. participant는 나가기 이벤트에서 null입니다.
+ */
+@Getter
+@Builder
+public class ParticipantEventResponse {
+    private long version;
+    private long baseVersion;
+    private UUID participantId;
+    private RoomParticipantResponse participant;
+}
@@ -3,11 +3,13 @@ package jack.mwukzibackened.domain.room.dto;
 import jack.mwukzibackened.domain.participant.ParticipantRole;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class RoomParticipantResponse {
     private UUID participantId;
     private String displayName;
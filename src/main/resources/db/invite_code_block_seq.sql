@@ -0,0 +1,7 @@
+-- 초대 코드 카운터 블록 시퀀스 (기동 시 InviteCodeGenerator가 없으면 만듦)
+-- 값 하나가 카운터 1024개(InviteCodeGenerator.BLOCK_SIZE)이며, 36^6 / 1024 = 2125764 블록을 모두 쓰면 nextval이 실패합니다.
+CREATE SEQUENCE IF NOT EXISTS invite_code_block_seq
+    START WITH 0
+    MINVALUE 0
+    MAXVALUE 2125763
+    NO CYCLE;
@@ -0,0 +1,17 @@
+-- 장소 카탈로그 (place.catalog.enabled=true면 기동 시 PlaceCatalogStore가 적용)
+CREATE TABLE IF NOT EXISTS place_catalog (
+    provider_place_id VARCHAR(255) PRIMARY KEY,
+    provider          VARCHAR(255) NOT NULL,
+    name              VARCHAR(255) NOT NULL,
+    category          VARCHAR(255),
+    address           VARCHAR(255),
+    road_address      VARCHAR(255),
+    phone             VARCHAR(255),
+    latitude          DOUBLE PRECISION NOT NULL,
+    longitude         DOUBLE PRECISION NOT NULL,
+    place_url         VARCHAR(255),
+    keywords          TEXT NOT NULL,
+    last_seen_at      TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_place_catalog_last_seen_at ON place_catalog (last_seen_at);
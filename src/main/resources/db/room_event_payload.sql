@@ -0,0 +1,8 @@
+-- 방 이벤트 버스에서 NOTIFY 한도(8000바이트)를 넘는 이벤트 본문 (room.event-bus.type=postgres면 기동 시 PostgresRoomEventBus가 적용)
+CREATE TABLE IF NOT EXISTS room_event_payload (
+    id         BIGSERIAL PRIMARY KEY,
+    payload    TEXT      NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_room_event_payload_created_at ON room_event_payload (created_at);
@@ -0,0 +1,109 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgingPolicyTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void disabledPolicyPassesAttemptThrough() {
+        HttpClientProperties.Hedging hedging = hedging(1.0);
+        hedging.setEnabled(false);
+        HedgingPolicy policy = policy(hedging);
+
+        assertEquals("primary", policy.hedge(attempt(Duration.ofMillis(200), "primary", "hedge")).block(TIMEOUT));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void fastPrimaryDoesNotSendHedge() {
+        HedgingPolicy policy = policy(hedging(1.0));
+
+        assertEquals("primary", policy.hedge(attempt(Duration.ZERO, "primary", "hedge")).block(TIMEOUT));
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, count("upstream.hedging.sent"));
+        assertEquals(1.0, count("upstream.hedging.winner", "attempt", "primary"));
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndHedgeWins() {
+        HedgingPolicy policy = policy(hedging(1.0));
+
+        assertEquals("hedge", policy.hedge(attempt(Duration.ofSeconds(2), "primary", "hedge")).block(TIMEOUT));
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, count("upstream.hedging.sent"));
+        assertEquals(1.0, count("upstream.hedging.winner", "attempt", "hedge"));
+    }
+
+    @Test
+    void hedgeIsSkippedWhenBudgetIsExhausted() {
+        HedgingPolicy policy = policy(hedging(0.0));
+
+        assertEquals("primary", policy.hedge(attempt(Duration.ofMillis(200), "primary", "hedge")).block(TIMEOUT));
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, count("upstream.hedging.budget-exhausted"));
+    }
+
+    @Test
+    void primaryErrorIsReturnedWithoutHedging() {
+        HedgingPolicy policy = policy(hedging(1.0));
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("upstream 5xx"));
+        });
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> policy.hedge(failing).block(TIMEOUT));
+
+        assertEquals("upstream 5xx", error.getMessage());
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, count("upstream.hedging.sent"));
+    }
+
+    private HedgingPolicy policy(HttpClientProperties.Hedging hedging) {
+        return new HedgingPolicy("kakao", "search", hedging, meterRegistry);
+    }
+
+    /**
+     * 헤지 지연은 표본이 모이기 전까지 max-delay(50ms)입니다.
+     */
+    private static HttpClientProperties.Hedging hedging(double budgetRatio) {
+        HttpClientProperties.Hedging hedging = new HttpClientProperties.Hedging();
+        hedging.setEnabled(true);
+        hedging.setMinDelay(Duration.ofMillis(10));
+        hedging.setMaxDelay(Duration.ofMillis(50));
+        hedging.setBudgetRatio(budgetRatio);
+        return hedging;
+    }
+
+    /**
+     * 첫 구독은 primaryLatency 뒤에 primary를, 두 번째 구독(헤지)은 바로 hedge를 냅니다.
+     */
+    private Mono<String> attempt(Duration primaryLatency, String primary, String hedge) {
+        return Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.delay(primaryLatency).thenReturn(primary)
+                : Mono.just(hedge));
+    }
+
+    private double count(String name, String... extraTags) {
+        String[] tags = new String[4 + extraTags.length];
+        tags[0] = "upstream";
+        tags[1] = "kakao";
+        tags[2] = "operation";
+        tags[3] = "search";
+        System.arraycopy(extraTags, 0, tags, 4, extraTags.length);
+        return meterRegistry.counter(name, tags).count();
+    }
+}
@@ -0,0 +1,156 @@
+package jack.mwukzibackened.common.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void opensAfterFailureRateAndRejectsWithoutCalling() {
+        UpstreamGuard guard = guard(circuit(Duration.ofHours(1)));
+        succeed(guard);
+        succeed(guard);
+        fail(guard);
+        fail(guard);
+        int callsBeforeOpen = calls.get();
+
+        assertRejected(guard, UpstreamGuard.CIRCUIT_OPEN);
+        assertEquals(callsBeforeOpen, calls.get());
+        assertEquals(1.0, meterRegistry.counter("upstream.guard.rejected",
+                "upstream", "test", "reason", UpstreamGuard.CIRCUIT_OPEN).count());
+    }
+
+    @Test
+    void errorsThatDoNotCountAsFailureKeepCircuitClosed() {
+        UpstreamGuard guard = guard(circuit(Duration.ofHours(1)));
+        for (int i = 0; i < 8; i++) {
+            call(guard, Mono.error(new IllegalArgumentException("bad request")), ex -> false);
+        }
+
+        assertEquals("ok", succeed(guard));
+    }
+
+    @Test
+    void halfOpenTrialSuccessClosesCircuit() throws InterruptedException {
+        UpstreamGuard guard = guard(circuit(Duration.ofMillis(50)));
+        openCircuit(guard);
+        Thread.sleep(100);
+
+        assertEquals("ok", succeed(guard));
+        // 닫혔으므로 시험 호출 수와 관계없이 계속 통과합니다.
+        assertEquals("ok", succeed(guard));
+        assertEquals("ok", succeed(guard));
+    }
+
+    @Test
+    void halfOpenTrialFailureReopensCircuit() throws InterruptedException {
+        UpstreamGuard guard = guard(circuit(Duration.ofMillis(50)));
+        openCircuit(guard);
+        Thread.sleep(100);
+
+        fail(guard);
+
+        assertRejected(guard, UpstreamGuard.CIRCUIT_OPEN);
+    }
+
+    @Test
+    void halfOpenAllowsOnlyConfiguredTrialCalls() throws InterruptedException {
+        UpstreamGuard guard = guard(circuit(Duration.ofMillis(50)));
+        openCircuit(guard);
+        Thread.sleep(100);
+
+        Disposable trial = guard.protect(Mono.never(), ex -> true, IllegalStateException::new).subscribe();
+        assertRejected(guard, UpstreamGuard.CIRCUIT_OPEN);
+
+        // 취소된 시험 호출은 결과 없이 허용 개수만 돌려줍니다.
+        trial.dispose();
+        assertEquals("ok", succeed(guard));
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimitUntilOneFinishes() {
+        HttpClientProperties.Guard settings = circuit(Duration.ofHours(1));
+        settings.setMaxConcurrentCalls(1);
+        UpstreamGuard guard = guard(settings);
+
+        Disposable inFlight = guard.protect(Mono.never(), ex -> true, IllegalStateException::new).subscribe();
+        assertRejected(guard, UpstreamGuard.BULKHEAD_FULL);
+
+        inFlight.dispose();
+        assertEquals("ok", succeed(guard));
+    }
+
+    @Test
+    void rateLimitRejectsBeyondBurst() {
+        HttpClientProperties.Guard settings = circuit(Duration.ofHours(1));
+        settings.setRateLimitPerSecond(0.001);
+        settings.setBurst(2);
+        UpstreamGuard guard = guard(settings);
+
+        succeed(guard);
+        succeed(guard);
+
+        assertRejected(guard, UpstreamGuard.RATE_LIMITED);
+    }
+
+    private UpstreamGuard guard(HttpClientProperties.Guard settings) {
+        return new UpstreamGuard("test", settings, meterRegistry);
+    }
+
+    private static HttpClientProperties.Guard circuit(Duration openDuration) {
+        HttpClientProperties.Guard settings = new HttpClientProperties.Guard();
+        settings.setRateLimitPerSecond(0);
+        settings.setMaxConcurrentCalls(10);
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(openDuration);
+        settings.setHalfOpenCalls(1);
+        return settings;
+    }
+
+    private void openCircuit(UpstreamGuard guard) {
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        assertRejected(guard, UpstreamGuard.CIRCUIT_OPEN);
+    }
+
+    private String succeed(UpstreamGuard guard) {
+        return call(guard, Mono.just("ok"), ex -> true);
+    }
+
+    private void fail(UpstreamGuard guard) {
+        call(guard, Mono.error(new RuntimeException("upstream 5xx")), ex -> true);
+    }
+
+    private String call(UpstreamGuard guard, Mono<String> result, Predicate<Throwable> countsAsFailure) {
+        Mono<String> call = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return result;
+        });
+        try {
+            return guard.protect(call, countsAsFailure, IllegalStateException::new).block();
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static void assertRejected(UpstreamGuard guard, String reason) {
+        IllegalStateException rejected = assertThrows(IllegalStateException.class,
+                () -> guard.protect(Mono.just("ok"), ex -> true, IllegalStateException::new).block());
+        assertEquals(reason, rejected.getMessage());
+    }
+}
@@ -0,0 +1,211 @@
+package jack.mwukzibackened.common.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 첫 프레임의 전송을 막아 둔 채 대기열을 채워, 대기열이 가득 찼을 때와 전체 상태 이벤트가 겹칠 때의 동작을 확인합니다.
+ */
+class SseSubscriberTest {
+
+    private static final int QUEUE_SIZE = 3;
+    private static final byte[] DATA = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingEmitter emitter = new BlockingEmitter();
+    private final AtomicInteger closeCallbacks = new AtomicInteger();
+    private SseFanout fanout;
+
+    @AfterEach
+    void tearDown() {
+        emitter.release();
+        if (fanout != null) {
+            fanout.close();
+        }
+    }
+
+    @Test
+    void queuedFullStateFrameIsReplacedByNewerOne() throws InterruptedException {
+        SseSubscriber subscriber = subscribe(SseFanout.OverflowPolicy.DROP_OLDEST);
+        SseFrame first = sendAndBlock(subscriber);
+        SseFrame stale = SseFrame.collapsible(2, "participants", DATA);
+        SseFrame delta = SseFrame.of(3, "participant_joined", DATA);
+        SseFrame latest = SseFrame.collapsible(4, "participants", DATA);
+
+        subscriber.send(stale);
+        subscriber.send(delta);
+        subscriber.send(latest);
+        emitter.release();
+
+        assertSent(first, delta, latest);
+        assertEquals(1.0, frames("dropped"));
+        assertFalse(subscriber.isClosed());
+    }
+
+    @Test
+    void overflowDropsOldestDroppableFrame() throws InterruptedException {
+        SseSubscriber subscriber = subscribe(SseFanout.OverflowPolicy.DROP_OLDEST);
+        SseFrame first = sendAndBlock(subscriber);
+        SseFrame state = SseFrame.collapsible(2, "participants", DATA);
+        SseFrame delta1 = SseFrame.of(3, "participant_joined", DATA);
+        SseFrame delta2 = SseFrame.of(4, "participant_joined", DATA);
+        SseFrame delta3 = SseFrame.of(5, "participant_left", DATA);
+
+        subscriber.send(state);
+        subscriber.send(delta1);
+        subscriber.send(delta2);
+        subscriber.send(delta3);
+        emitter.release();
+
+        assertSent(first, delta1, delta2, delta3);
+        assertEquals(1.0, frames("dropped"));
+        assertFalse(subscriber.isClosed());
+        assertEquals(0, closeCallbacks.get());
+    }
+
+    @Test
+    void overflowWithoutDroppableFrameDisconnects() throws InterruptedException {
+        SseSubscriber subscriber = subscribe(SseFanout.OverflowPolicy.DROP_OLDEST);
+        sendAndBlock(subscriber);
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            subscriber.send(SseFrame.of(2 + i, "participant_joined", DATA));
+        }
+
+        subscriber.send(SseFrame.of(10, "participant_joined", DATA));
+
+        assertTrue(subscriber.isClosed());
+        assertEquals(1, closeCallbacks.get());
+        assertEquals(1.0, disconnects("overflow"));
+    }
+
+    @Test
+    void disconnectPolicyClosesOnOverflowEvenWithDroppableFrames() throws InterruptedException {
+        SseSubscriber subscriber = subscribe(SseFanout.OverflowPolicy.DISCONNECT);
+        sendAndBlock(subscriber);
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            subscriber.send(SseFrame.collapsible(2 + i, "state" + i, DATA));
+        }
+
+        subscriber.send(SseFrame.collapsible(10, "state" + QUEUE_SIZE, DATA));
+
+        assertTrue(subscriber.isClosed());
+        assertEquals(1.0, disconnects("overflow"));
+    }
+
+    @Test
+    void heartbeatIsSkippedWhenQueueIsFull() throws InterruptedException {
+        SseSubscriber subscriber = subscribe(SseFanout.OverflowPolicy.DROP_OLDEST);
+        sendAndBlock(subscriber);
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            subscriber.send(SseFrame.of(2 + i, "participant_joined", DATA));
+        }
+
+        subscriber.send(SseFrame.HEARTBEAT);
+
+        assertFalse(subscriber.isClosed());
+        assertEquals(0.0, frames("dropped"));
+    }
+
+    @Test
+    void closeCallbackRunsOnceWithSubscriber() {
+        SseSubscriber[] closed = new SseSubscriber[1];
+        fanout = fanout(SseFanout.OverflowPolicy.DROP_OLDEST);
+        SseSubscriber subscriber = fanout.subscribe(emitter, value -> {
+            closed[0] = value;
+            closeCallbacks.incrementAndGet();
+        });
+
+        subscriber.closed();
+        subscriber.closed();
+
+        assertSame(subscriber, closed[0]);
+        assertEquals(1, closeCallbacks.get());
+        assertTrue(subscriber.isClosed());
+    }
+
+    private SseSubscriber subscribe(SseFanout.OverflowPolicy policy) {
+        fanout = fanout(policy);
+        return fanout.subscribe(emitter, value -> closeCallbacks.incrementAndGet());
+    }
+
+    private SseFanout fanout(SseFanout.OverflowPolicy policy) {
+        // 하트비트 주기 0은 하트비트를 끕니다.
+        return new SseFanout(meterRegistry, 1, QUEUE_SIZE, policy,
+                Duration.ZERO, Duration.ofMinutes(30), Duration.ofSeconds(60));
+    }
+
+    /**
+     * 첫 프레임을 보내고 전송 스레드가 그 프레임을 쓰다가 막힐 때까지 기다립니다. 이후 보내는 프레임은 모두 대기열에 남습니다.
+     */
+    private SseFrame sendAndBlock(SseSubscriber subscriber) throws InterruptedException {
+        SseFrame first = SseFrame.of(1, "participants", DATA);
+        subscriber.send(first);
+        assertTrue(emitter.firstSendStarted.await(5, TimeUnit.SECONDS));
+        return first;
+    }
+
+    private void assertSent(SseFrame... expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.size() < expected.length && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected.length, emitter.sent.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i].payload(), emitter.sent.get(i));
+        }
+    }
+
+    private double frames(String result) {
+        return meterRegistry.counter("sse.fanout.frames", "result", result).count();
+    }
+
+    private double disconnects(String reason) {
+        return meterRegistry.counter("sse.fanout.disconnects", "reason", reason).count();
+    }
+
+    /**
+     * 보낸 프레임을 기록하고, release 전까지 첫 전송에서 멈춰 있는 에미터.
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+
+        private BlockingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            firstSendStarted.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(items);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+    }
+}
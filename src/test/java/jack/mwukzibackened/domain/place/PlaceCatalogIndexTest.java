@@ -0,0 +1,123 @@
+package jack.mwukzibackened.domain.place;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceCatalogIndexTest {
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+    // 위도 0.001도 ≒ 111m
+    private static final double LAT_100M = 0.0009;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final PlaceCatalogIndex index = new PlaceCatalogIndex();
+
+    @Test
+    void queryReturnsNearestMatchesWithinRadius() {
+        index.load(entry("far", "국밥집", "한식", CENTER_LAT + LAT_100M * 8, NOW));
+        index.load(entry("near", "순대국", "한식", CENTER_LAT + LAT_100M, NOW));
+        index.load(entry("middle", "해장국", "한식", CENTER_LAT - LAT_100M * 4, NOW));
+        index.load(entry("outside", "설렁탕", "한식", CENTER_LAT + LAT_100M * 20, NOW));
+
+        List<PlaceCatalogIndex.Hit> hits = query("한식", 1000, 10, NOW.minusDays(1));
+
+        assertEquals(List.of("near", "middle", "far"), ids(hits));
+        assertTrue(hits.get(0).distanceMeters() < hits.get(1).distanceMeters());
+    }
+
+    @Test
+    void queryKeepsOnlyTheClosestLimitHits() {
+        for (int i = 1; i <= 5; i++) {
+            index.load(entry("p" + i, "분식" + i, "분식", CENTER_LAT + LAT_100M * i, NOW));
+        }
+
+        assertEquals(List.of("p1", "p2"), ids(query("분식", 1000, 2, NOW.minusDays(1))));
+    }
+
+    @Test
+    void queryMatchesSearchKeywordOrNameAndCategory() {
+        index.load(PlaceCatalogIndex.Entry.create("by-keyword", "kakao", "할매집", "한식", null, null, null,
+                CENTER_LAT, CENTER_LNG, null, Set.of("점심"), NOW));
+        index.load(entry("by-name", "점심식당", "한식", CENTER_LAT + LAT_100M, NOW));
+        index.load(entry("by-category", "모퉁이", "pizza", CENTER_LAT + LAT_100M * 2, NOW));
+
+        assertEquals(List.of("by-keyword", "by-name"), ids(query("점심", 1000, 10, NOW.minusDays(1))));
+        assertEquals(List.of("by-category"), ids(query("pizza", 1000, 10, NOW.minusDays(1))));
+    }
+
+    @Test
+    void querySkipsEntriesNotSeenSinceCutoff() {
+        index.load(entry("stale", "냉면집", "한식", CENTER_LAT, NOW.minusDays(10)));
+        index.load(entry("fresh", "막국수", "한식", CENTER_LAT + LAT_100M, NOW));
+
+        assertEquals(List.of("fresh"), ids(query("한식", 1000, 10, NOW.minusDays(1))));
+    }
+
+    @Test
+    void loadIgnoresOlderCopyOfAnExistingEntry() {
+        index.load(entry("place", "새이름", "한식", CENTER_LAT, NOW));
+        index.load(entry("place", "옛이름", "한식", CENTER_LAT, NOW.minusHours(1)));
+
+        assertEquals("새이름", index.findById("place").orElseThrow().name());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void movedEntryIsOnlyFoundAtItsNewLocation() {
+        index.load(entry("moved", "이전식당", "한식", CENTER_LAT, NOW.minusHours(1)));
+        double farLat = CENTER_LAT + 0.1;
+        index.load(entry("moved", "이전식당", "한식", farLat, NOW));
+
+        assertTrue(query("한식", 500, 10, NOW.minusDays(1)).isEmpty());
+        List<PlaceCatalogIndex.Hit> hits = index.query("한식", farLat, CENTER_LNG, 500, 10, NOW.minusDays(1));
+        assertEquals(List.of("moved"), ids(hits));
+    }
+
+    @Test
+    void trimRemovesOldEntriesThenOldestBeyondLimit() {
+        index.load(entry("expired", "a", "한식", CENTER_LAT, NOW.minusDays(10)));
+        index.load(entry("oldest", "b", "한식", CENTER_LAT, NOW.minusHours(3)));
+        index.load(entry("older", "c", "한식", CENTER_LAT, NOW.minusHours(2)));
+        index.load(entry("newest", "d", "한식", CENTER_LAT, NOW.minusHours(1)));
+
+        int removed = index.trim(NOW.minusDays(1), 2);
+
+        assertEquals(2, removed);
+        assertEquals(2, index.size());
+        assertFalse(index.findById("expired").isPresent());
+        assertFalse(index.findById("oldest").isPresent());
+        assertTrue(index.findById("older").isPresent());
+        assertTrue(index.findById("newest").isPresent());
+    }
+
+    @Test
+    void entriesCanBeAddedToACellEmptiedByTrim() {
+        index.load(entry("old", "a", "한식", CENTER_LAT, NOW.minusDays(10)));
+        index.trim(NOW.minusDays(1), 100);
+
+        index.load(entry("new", "b", "한식", CENTER_LAT, NOW));
+
+        assertEquals(List.of("new"), ids(query("한식", 100, 10, NOW.minusDays(1))));
+    }
+
+    private List<PlaceCatalogIndex.Hit> query(String keyword, int radiusMeters, int limit, LocalDateTime seenAfter) {
+        return index.query(keyword, CENTER_LAT, CENTER_LNG, radiusMeters, limit, seenAfter);
+    }
+
+    private static PlaceCatalogIndex.Entry entry(String id, String name, String category, double lat, LocalDateTime seenAt) {
+        return PlaceCatalogIndex.Entry.create(id, "kakao", name, category, null, null, null,
+                lat, CENTER_LNG, null, Set.of(), seenAt);
+    }
+
+    private static List<String> ids(List<PlaceCatalogIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.entry().providerPlaceId()).toList();
+    }
+}
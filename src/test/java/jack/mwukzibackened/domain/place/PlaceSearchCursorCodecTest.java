@@ -0,0 +1,109 @@
+package jack.mwukzibackened.domain.place;
+
+import jack.mwukzibackened.domain.place.dto.PlaceSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlaceSearchCursorCodecTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final PlaceSearchCursorCodec codec = codec("cursor-key");
+
+    @Test
+    void tokenRoundTripsCursorState() {
+        PlaceSearchResponse.PlaceItem carried = PlaceSearchResponse.PlaceItem.builder()
+                .provider("kakao")
+                .providerPlaceId("12345")
+                .name("할매국밥")
+                .category("음식점 > 한식")
+                .roadAddress("서울 강남구 테헤란로 1")
+                .distanceMeters(420)
+                .latitude(37.5)
+                .longitude(127.03)
+                .sourceKeyword("국밥")
+                .build();
+        PlaceSearchCursor cursor = new PlaceSearchCursor(
+                UUID.randomUUID(), 37.4979, 127.0276, 1000, 15,
+                List.of(new PlaceSearchCursor.KeywordPage("국밥", 3, false),
+                        new PlaceSearchCursor.KeywordPage("냉면", 2, true)),
+                PlaceSearchCursor.merge(new long[0], new long[]{
+                        PlaceSearchCursor.fingerprint("kakao:1"), PlaceSearchCursor.fingerprint("kakao:2")}),
+                List.of(carried)
+        );
+
+        PlaceSearchCursor decoded = codec.decode(codec.encode(cursor)).orElseThrow();
+
+        assertEquals(cursor.roomId(), decoded.roomId());
+        assertEquals(cursor.centerLat(), decoded.centerLat());
+        assertEquals(cursor.centerLng(), decoded.centerLng());
+        assertEquals(cursor.radiusMeters(), decoded.radiusMeters());
+        assertEquals(cursor.sizePerKeyword(), decoded.sizePerKeyword());
+        assertEquals(cursor.keywords(), decoded.keywords());
+        assertArrayEquals(cursor.seen(), decoded.seen());
+        PlaceSearchResponse.PlaceItem item = decoded.carryOver().get(0);
+        assertEquals("12345", item.getProviderPlaceId());
+        assertEquals("할매국밥", item.getName());
+        assertEquals("서울 강남구 테헤란로 1", item.getRoadAddress());
+        assertNull(item.getAddress());
+        assertNull(item.getPhone());
+        assertEquals(420, item.getDistanceMeters().intValue());
+        assertEquals(37.5, item.getLatitude().doubleValue());
+        assertEquals(127.03, item.getLongitude().doubleValue());
+        assertEquals("국밥", item.getSourceKeyword());
+    }
+
+    @Test
+    void tokenIssuedByAnotherInstanceWithSameKeyIsAccepted() {
+        String token = codec.encode(cursor());
+
+        assertEquals(1, codec("cursor-key").decode(token).orElseThrow().keywords().size());
+        assertFalse(codec("other-key").decode(token).isPresent());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = codec.encode(cursor());
+        // 본문 가운데(중심 좌표) 한 글자를 바꿉니다. 마지막 글자는 남는 비트만 담을 수 있어 피합니다.
+        int position = 40;
+        char flipped = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + flipped + token.substring(position + 1);
+
+        assertFalse(codec.decode(tampered).isPresent());
+        assertFalse(codec.decode("not-a-token").isPresent());
+        assertFalse(codec.decode("%%%.###").isPresent());
+    }
+
+    @Test
+    void tokenExpiresAfterTtl() {
+        String token = codec.encode(cursor());
+
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        assertEquals(1, codec.decode(token).orElseThrow().keywords().size());
+        now.addAndGet(1);
+        assertFalse(codec.decode(token).isPresent());
+    }
+
+    @Test
+    void blankKeyFailsFast() {
+        assertThrows(IllegalStateException.class, () -> new PlaceSearchCursorCodec(" ", Duration.ofMinutes(30), now::get));
+    }
+
+    private PlaceSearchCursorCodec codec(String key) {
+        return new PlaceSearchCursorCodec(key, Duration.ofMinutes(30), now::get);
+    }
+
+    private static PlaceSearchCursor cursor() {
+        return new PlaceSearchCursor(UUID.randomUUID(), 37.4979, 127.0276, 1000, 15,
+                List.of(PlaceSearchCursor.KeywordPage.firstPage("국밥")), new long[0], List.of());
+    }
+}
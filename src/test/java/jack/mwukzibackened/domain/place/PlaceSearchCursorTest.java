@@ -0,0 +1,76 @@
+package jack.mwukzibackened.domain.place;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceSearchCursorTest {
+
+    @Test
+    void fingerprintIsStableFnv1a() {
+        // FNV-1a 64비트 공개 테스트 벡터
+        assertEquals(0xcbf29ce484222325L, PlaceSearchCursor.fingerprint(""));
+        assertEquals(0xaf63dc4c8601ec8cL, PlaceSearchCursor.fingerprint("a"));
+        assertEquals(PlaceSearchCursor.fingerprint("kakao:12345"), PlaceSearchCursor.fingerprint("kakao:12345"));
+        assertNotEquals(PlaceSearchCursor.fingerprint("kakao:12345"), PlaceSearchCursor.fingerprint("kakao:12346"));
+    }
+
+    @Test
+    void mergedFingerprintsAreSortedAndSeen() {
+        long[] first = {PlaceSearchCursor.fingerprint("kakao:3"), PlaceSearchCursor.fingerprint("kakao:1")};
+        long[] seen = PlaceSearchCursor.merge(new long[0], first);
+        seen = PlaceSearchCursor.merge(seen, new long[]{PlaceSearchCursor.fingerprint("kakao:2")});
+
+        long[] sorted = seen.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, seen);
+
+        PlaceSearchCursor cursor = cursor(List.of(PlaceSearchCursor.KeywordPage.firstPage("국밥")), seen);
+        assertTrue(cursor.isSeen(PlaceSearchCursor.fingerprint("kakao:1")));
+        assertTrue(cursor.isSeen(PlaceSearchCursor.fingerprint("kakao:2")));
+        assertTrue(cursor.isSeen(PlaceSearchCursor.fingerprint("kakao:3")));
+        assertFalse(cursor.isSeen(PlaceSearchCursor.fingerprint("kakao:4")));
+    }
+
+    @Test
+    void hasMoreUntilEveryKeywordReachesItsLastPage() {
+        PlaceSearchCursor.KeywordPage open = PlaceSearchCursor.KeywordPage.firstPage("국밥");
+        PlaceSearchCursor.KeywordPage done = new PlaceSearchCursor.KeywordPage("냉면", 3, true);
+
+        assertTrue(cursor(List.of(open, done), new long[0]).hasMore());
+        assertFalse(cursor(List.of(done), new long[0]).hasMore());
+    }
+
+    @Test
+    void firstPageShorterThanRequestedSizeEndsKeyword() {
+        assertTrue(PlaceSearchCursor.KeywordPage.afterFirstPage("국밥", 7, 15).end());
+
+        PlaceSearchCursor.KeywordPage full = PlaceSearchCursor.KeywordPage.afterFirstPage("국밥", 15, 15);
+        assertFalse(full.end());
+        assertEquals(2, full.nextPage());
+    }
+
+    @Test
+    void advanceStopsAtKakaoPageLimit() {
+        PlaceSearchCursor.KeywordPage page = new PlaceSearchCursor.KeywordPage("국밥", 2, false);
+        assertEquals(3, page.advance(false).nextPage());
+        assertFalse(page.advance(false).end());
+        assertTrue(page.advance(true).end());
+
+        PlaceSearchCursor.KeywordPage last =
+                new PlaceSearchCursor.KeywordPage("국밥", PlaceSearchCursor.MAX_KAKAO_PAGE, false);
+        assertTrue(last.advance(false).end());
+    }
+
+    private static PlaceSearchCursor cursor(List<PlaceSearchCursor.KeywordPage> keywords, long[] seen) {
+        return new PlaceSearchCursor(UUID.randomUUID(), 37.4979, 127.0276, 1000, 15, keywords, seen, List.of());
+    }
+}
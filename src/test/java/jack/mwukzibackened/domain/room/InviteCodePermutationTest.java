@@ -0,0 +1,100 @@
+package jack.mwukzibackened.domain.room;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InviteCodePermutationTest {
+
+    private final InviteCodePermutation permutation = new InviteCodePermutation("test-key");
+
+    @Test
+    void distinctCountersMapToDistinctCodesInDomain() {
+        Set<Long> values = new HashSet<>();
+        Set<String> codes = new HashSet<>();
+        int samples = 200_000;
+        for (long counter = 0; counter < samples; counter++) {
+            long value = permutation.permute(counter);
+            assertTrue(value >= 0 && value < InviteCodePermutation.DOMAIN);
+            values.add(value);
+            codes.add(permutation.encode(value));
+        }
+
+        assertEquals(samples, values.size());
+        assertEquals(samples, codes.size());
+    }
+
+    @Test
+    void countersAtDomainEndStayInDomain() {
+        Set<Long> values = new HashSet<>();
+        for (long counter = InviteCodePermutation.DOMAIN - 10_000; counter < InviteCodePermutation.DOMAIN; counter++) {
+            long value = permutation.permute(counter);
+            assertTrue(value >= 0 && value < InviteCodePermutation.DOMAIN);
+            values.add(value);
+        }
+
+        assertEquals(10_000, values.size());
+    }
+
+    @Test
+    void countersOutsideDomainAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(-1));
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(InviteCodePermutation.DOMAIN));
+    }
+
+    @Test
+    void encodeUsesSixCharactersFromAlphabet() {
+        assertEquals("AAAAAA", permutation.encode(0));
+        assertEquals("AAAAAB", permutation.encode(1));
+        assertEquals("999999", permutation.encode(InviteCodePermutation.DOMAIN - 1));
+        String code = permutation.encode(permutation.permute(12_345));
+        assertEquals(InviteCodePermutation.LENGTH, code.length());
+        assertTrue(code.chars().allMatch(c -> InviteCodePermutation.ALPHABET.indexOf(c) >= 0));
+    }
+
+    @Test
+    void sameKeyGivesSameSequenceAndOtherKeyDiffers() {
+        InviteCodePermutation sameKey = new InviteCodePermutation("test-key");
+        InviteCodePermutation otherKey = new InviteCodePermutation("other-key");
+
+        int differing = 0;
+        for (long counter = 0; counter < 100; counter++) {
+            assertEquals(permutation.permute(counter), sameKey.permute(counter));
+            if (permutation.permute(counter) != otherKey.permute(counter)) {
+                differing++;
+            }
+        }
+        assertTrue(differing > 90);
+        // 연속한 카운터가 연속한 코드가 되지 않습니다.
+        assertNotEquals(permutation.permute(0) + 1, permutation.permute(1));
+    }
+
+    @Test
+    void generatorsSharingBlockSequenceNeverCollide() {
+        AtomicLong sequence = new AtomicLong();
+        AtomicInteger leases = new AtomicInteger();
+        InviteCodeGenerator first = new InviteCodeGenerator(permutation, () -> {
+            leases.incrementAndGet();
+            return sequence.getAndIncrement();
+        });
+        InviteCodeGenerator second = new InviteCodeGenerator(permutation, sequence::getAndIncrement);
+
+        Set<String> codes = new HashSet<>();
+        int perGenerator = InviteCodeGenerator.BLOCK_SIZE * 3;
+        for (int i = 0; i < perGenerator; i++) {
+            codes.add(first.next());
+            codes.add(second.next());
+        }
+
+        assertEquals(perGenerator * 2, codes.size());
+        assertEquals(3, leases.get());
+    }
+}
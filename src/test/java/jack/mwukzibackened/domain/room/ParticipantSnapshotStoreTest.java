@@ -0,0 +1,153 @@
+package jack.mwukzibackened.domain.room;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jack.mwukzibackened.domain.participant.ParticipantRole;
+import jack.mwukzibackened.domain.room.dto.RoomParticipantResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticipantSnapshotStoreTest {
+
+    private final ParticipantSnapshotStore store =
+            new ParticipantSnapshotStore(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    private final UUID roomId = UUID.randomUUID();
+    private final RoomParticipantResponse host = participant("방장", ParticipantRole.HOST, false);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getLoadsOnceAndReusesSnapshot() {
+        ParticipantSnapshot first = store.get(roomId, this::loadHostOnly);
+        ParticipantSnapshot second = store.get(roomId, this::loadHostOnly);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(List.of(host), first.participants());
+        assertTrue(new String(first.json(), StandardCharsets.UTF_8).contains("\"display_name\":\"방장\""));
+    }
+
+    @Test
+    void upsertBumpsVersionAndReportsBaseVersion() {
+        ParticipantSnapshot loaded = store.get(roomId, this::loadHostOnly);
+        RoomParticipantResponse guest = participant("게스트", ParticipantRole.GUEST, false);
+
+        ParticipantChange change = store.upsert(roomId, ParticipantChange.Type.JOINED, guest);
+
+        assertEquals(loaded.version(), change.baseVersion());
+        assertTrue(change.snapshot().version() > loaded.version());
+        assertEquals(List.of(host, guest), change.snapshot().participants());
+        assertSame(change.snapshot(), store.get(roomId, this::loadHostOnly));
+        assertNotEquals(loaded.etag(), change.snapshot().etag());
+    }
+
+    @Test
+    void submittedParticipantIsNotRevertedByLateUpdate() {
+        store.get(roomId, this::loadHostOnly);
+        RoomParticipantResponse guest = participant("게스트", ParticipantRole.GUEST, false);
+        store.upsert(roomId, ParticipantChange.Type.JOINED, guest);
+        store.upsert(roomId, ParticipantChange.Type.SUBMITTED, submitted(guest, "게스트"));
+
+        // 커밋 후 콜백이 늦게 도착한 참여 이벤트. 이름은 반영하되 제출 완료는 유지합니다.
+        ParticipantChange late = store.upsert(roomId, ParticipantChange.Type.JOINED,
+                participant(guest.getParticipantId(), "새이름", ParticipantRole.GUEST, false));
+
+        RoomParticipantResponse merged = late.snapshot().participants().get(1);
+        assertEquals("새이름", merged.getDisplayName());
+        assertTrue(merged.isHasSubmitted());
+        assertEquals(2, late.snapshot().participants().size());
+    }
+
+    @Test
+    void removeDropsParticipantAndBumpsVersion() {
+        store.get(roomId, this::loadHostOnly);
+        RoomParticipantResponse guest = participant("게스트", ParticipantRole.GUEST, false);
+        ParticipantChange joined = store.upsert(roomId, ParticipantChange.Type.JOINED, guest);
+
+        ParticipantChange left = store.remove(roomId, guest.getParticipantId());
+
+        assertEquals(joined.snapshot().version(), left.baseVersion());
+        assertTrue(left.snapshot().version() > joined.snapshot().version());
+        assertEquals(List.of(host), left.snapshot().participants());
+        assertNull(left.participant());
+    }
+
+    @Test
+    void changesWithoutSnapshotAreNotApplied() {
+        assertNull(store.upsert(roomId, ParticipantChange.Type.JOINED, host));
+        assertNull(store.remove(roomId, host.getParticipantId()));
+    }
+
+    @Test
+    void versionKeepsIncreasingAfterInvalidate() {
+        ParticipantSnapshot before = store.get(roomId, this::loadHostOnly);
+
+        store.invalidate(roomId);
+        ParticipantSnapshot reloaded = store.get(roomId, this::loadHostOnly);
+
+        assertEquals(2, loads.get());
+        assertTrue(reloaded.version() > before.version());
+        assertEquals(before.etag(), reloaded.etag());
+    }
+
+    @Test
+    void loadIsRetriedWhenChangeArrivesWhileReading() {
+        RoomParticipantResponse guest = participant("게스트", ParticipantRole.GUEST, false);
+
+        ParticipantSnapshot snapshot = store.get(roomId, () -> {
+            if (loads.incrementAndGet() == 1) {
+                // 첫 읽기 도중 커밋된 참여. 스냅샷이 없어 반영되지 않으므로 읽은 목록은 버려져야 합니다.
+                assertNull(store.upsert(roomId, ParticipantChange.Type.JOINED, guest));
+                return List.of(host);
+            }
+            return List.of(host, guest);
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(List.of(host, guest), snapshot.participants());
+    }
+
+    @Test
+    void etagMatchesIfNoneMatchHeader() {
+        ParticipantSnapshot snapshot = store.get(roomId, this::loadHostOnly);
+
+        assertTrue(snapshot.matches(snapshot.etag()));
+        assertTrue(snapshot.matches("W/" + snapshot.etag()));
+        assertTrue(snapshot.matches("\"other\", " + snapshot.etag()));
+        assertTrue(snapshot.matches("*"));
+        assertFalse(snapshot.matches("\"other\""));
+        assertFalse(snapshot.matches(null));
+    }
+
+    private List<RoomParticipantResponse> loadHostOnly() {
+        loads.incrementAndGet();
+        return List.of(host);
+    }
+
+    private static RoomParticipantResponse participant(String name, ParticipantRole role, boolean submitted) {
+        return participant(UUID.randomUUID(), name, role, submitted);
+    }
+
+    private static RoomParticipantResponse participant(UUID id, String name, ParticipantRole role, boolean submitted) {
+        return RoomParticipantResponse.builder()
+                .participantId(id)
+                .displayName(name)
+                .role(role)
+                .hasSubmitted(submitted)
+                .build();
+    }
+
+    private static RoomParticipantResponse submitted(RoomParticipantResponse participant, String name) {
+        return participant(participant.getParticipantId(), name, participant.getRole(), true);
+    }
+}
@@ -0,0 +1,98 @@
+package jack.mwukzibackened.domain.room;
+
+import jack.mwukzibackened.common.sse.SseFrame;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomEventLogTest {
+
+    private static final byte[] DATA = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void replaysEventsAfterLastEventId() {
+        RoomEventLog log = new RoomEventLog(8, 0);
+        SseFrame first = append(log, 1, "participants");
+        SseFrame second = append(log, 2, "participant_joined");
+        SseFrame third = append(log, 3, "recommendation");
+
+        assertEquals(List.of(first, second, third), log.since(0));
+        assertEquals(List.of(second, third), log.since(1));
+        assertTrue(log.since(3).isEmpty());
+        assertEquals(3, log.lastId());
+    }
+
+    @Test
+    void unknownFutureIdCannotBeReplayed() {
+        RoomEventLog log = new RoomEventLog(8, 0);
+        append(log, 1, "participants");
+
+        assertNull(log.since(2));
+    }
+
+    @Test
+    void eventsPushedOutOfRingCannotBeReplayed() {
+        RoomEventLog log = new RoomEventLog(3, 0);
+        for (long id = 1; id <= 5; id++) {
+            append(log, id, "participant_joined");
+        }
+
+        // 링에는 3, 4, 5만 남아 있어 2 이후(3부터)는 이어 보낼 수 있지만 1 이후는 2가 빠집니다.
+        assertNull(log.since(1));
+        assertEquals(List.of(3L, 4L, 5L), ids(log.since(2)));
+        assertEquals(List.of(5L), ids(log.since(4)));
+    }
+
+    @Test
+    void logCreatedMidStreamRejectsOlderIds() {
+        RoomEventLog log = new RoomEventLog(8, 10);
+        SseFrame next = append(log, 11, "participants");
+
+        assertNull(log.since(9));
+        assertEquals(List.of(next), log.since(10));
+    }
+
+    @Test
+    void latestStateKeepsLastFramePerEventInIdOrder() {
+        RoomEventLog log = new RoomEventLog(2, 0);
+        append(log, 1, "participants");
+        SseFrame recommendation = append(log, 2, "recommendation");
+        append(log, 3, "participants");
+        SseFrame participants = append(log, 4, "participants");
+
+        // 추천은 링에서 밀려났어도 최신 상태로 남습니다.
+        assertEquals(List.of(recommendation, participants), log.latestState());
+        assertSame(participants, log.latest("participants"));
+        assertNull(log.latest("room_closed"));
+    }
+
+    @Test
+    void participantsSnapshotTracksVersion() {
+        RoomEventLog log = new RoomEventLog(8, 0);
+        assertEquals(-1, log.participantsVersion());
+        assertNull(log.participants());
+
+        ParticipantSnapshot snapshot = new ParticipantSnapshot(UUID.randomUUID(), 7, List.of(), DATA, "\"etag\"");
+        log.updateParticipants(snapshot);
+
+        assertEquals(7, log.participantsVersion());
+        assertSame(snapshot, log.participants());
+    }
+
+    private static SseFrame append(RoomEventLog log, long id, String event) {
+        SseFrame frame = SseFrame.of(id, event, DATA);
+        log.append(frame);
+        return frame;
+    }
+
+    private static List<Long> ids(List<SseFrame> frames) {
+        return frames.stream().map(SseFrame::id).toList();
+    }
+}